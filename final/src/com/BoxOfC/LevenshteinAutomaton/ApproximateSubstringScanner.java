@@ -0,0 +1,310 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+
+
+/**
+ * A scanner which finds the approximate occurrences of a pattern String in a (possibly very long) text,
+ * that is, the substrings of the text that are within a given edit distance from the pattern. 
+ * 
+ * The scanner behaves as a Levenshtein automaton for the pattern that may begin matching at any 
+ * offset of the text. It is simulated column by column (Sellers' algorithm, extended with transpositions), 
+ * and only the leading cells of each column that can still be within the max edit distance are computed 
+ * (Ukkonen's cutoff). Text is consumed in a single pass with memory proportional to the pattern length,
+ * and for each offset at which an occurrence ends, the end offset and edit distance are reported to an
+ * {@link ApproximateMatchListener}.
+ 
+ * @author Kevin
+ */
+public class ApproximateSubstringScanner
+{
+    //The size of the char buffers used to stream Readers and mapped files through this scanner
+    private static final int STREAMING_BUFFER_SIZE = 8192;
+    
+    //The size of the windows in which files are mapped in to memory
+    private static final long MAPPING_WINDOW_SIZE = 1L << 26;
+    
+    //The String whose approximate occurrences are to be found
+    private final String pattern;
+    
+    //The maximum amount of edit operations that can separate an occurrence from pattern
+    private final int maxEditDistance;
+    
+    //The listener that occurrences are to be reported to
+    private final ApproximateMatchListener listener;
+    
+    //Arrays representing the columns of the edit distance matrix associated with the current, previous and second-previous
+    //text chars. Cell i of a column contains the smallest edit distance between pattern.substring(0, i) and a substring
+    //of the text ending at the column's char, capped at maxEditDistance + 1. The arrays are rotated as chars are scanned
+    private int[] currentMatrixCol;
+    private int[] previousMatrixCol;
+    private int[] ancestorMatrixCol;
+    /////
+    
+    //The largest index of a cell in previousMatrixCol that contains a value less than or equal to maxEditDistance
+    private int previousLastActiveIndex;
+    
+    //The text char scanned before the most recently scanned one
+    private char previousChar;
+    
+    //The number of chars that have been scanned
+    private long offset;
+    
+    
+    
+    /**
+     * Constructs an ApproximateSubstringScanner.
+     
+     * @param pattern               the String whose approximate occurrences are to be found
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that
+     *                              can separate an occurrence from {@code pattern}
+     * @param listener              the ApproximateMatchListener that occurrences are to be reported to
+     */
+    public ApproximateSubstringScanner(String pattern, int maxEditDistance, ApproximateMatchListener listener)
+    {
+        this.pattern = pattern;
+        this.maxEditDistance = maxEditDistance;
+        this.listener = listener;
+        
+        currentMatrixCol = new int[pattern.length() + 2];
+        previousMatrixCol = new int[pattern.length() + 2];
+        ancestorMatrixCol = new int[pattern.length() + 2];
+        
+        reset();
+    }
+    
+    
+    
+    /**
+     * Resets this scanner so that the next char scanned is treated as the start of a new text.
+     */
+    public final void reset()
+    {
+        int patternLength = pattern.length();
+        int unreachableCost = maxEditDistance + 1;
+        
+        //The first column of the matrix is associated with an empty text, in which case the 
+        //edit distance between it and pattern.substring(0, i) is simply i
+        for(int i = 0; i <= patternLength + 1; i++)
+        {
+            previousMatrixCol[i] = Math.min(i, unreachableCost);
+            ancestorMatrixCol[i] = unreachableCost;
+        }
+        /////
+        
+        previousLastActiveIndex = Math.min(patternLength, maxEditDistance);
+        previousChar = '\0';
+        offset = 0;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of chars that have been scanned since this scanner was created or last reset.
+     
+     * @return      a long of the number of chars that have been scanned
+     */
+    public long getOffset()
+    {
+        return offset;
+    }
+    
+    
+    
+    /**
+     * Scans a text char, reporting an occurrence to the listener if one ends at it.
+     
+     * @param letter        the next char of the text
+     */
+    public void scan(char letter)
+    {
+        int patternLength = pattern.length();
+        int unreachableCost = maxEditDistance + 1;
+        
+        //Only the cells up to one past the last active cell of the previous column can be within maxEditDistance
+        int computationEndIndex = Math.min(patternLength, previousLastActiveIndex + 1);
+        int lastActiveIndex = 0;
+        
+        //An occurrence may start at any offset, so the edit distance between the empty pattern prefix and the text is always 0
+        currentMatrixCol[0] = 0;
+        
+        //Fill from top to bottom the cells of the current column that can be within maxEditDistance
+        for(int i = 1; i <= computationEndIndex; i++)
+        {
+            char patternChar = pattern.charAt(i - 1);
+            int curCharEditDistance = (patternChar == letter ? 0 : 1);
+            
+            //Determine the smallest cost among those associated with a deletion, insertion and substitution
+            int minEditOperationCost = Math.min(currentMatrixCol[i - 1] + 1, previousMatrixCol[i] + 1);
+            minEditOperationCost = Math.min(minEditOperationCost, previousMatrixCol[i - 1] + curCharEditDistance);
+            /////
+            
+            //If the previous and currently processing chars of the pattern and text are transposed, determine the smallest 
+            //edit operation cost between minEditOperationCost and that associated with a hypothetical transposition
+            if(i > 1 && offset > 0 && patternChar == previousChar && pattern.charAt(i - 2) == letter)
+                minEditOperationCost = Math.min(minEditOperationCost, ancestorMatrixCol[i - 2] + 1);
+            
+            currentMatrixCol[i] = Math.min(minEditOperationCost, unreachableCost);
+            if(minEditOperationCost <= maxEditDistance) lastActiveIndex = i;
+        }
+        /////
+        
+        //Mark the cell following the computed ones as unreachable, so it is never mistaken for a reachable cell of a previous column 
+        currentMatrixCol[computationEndIndex + 1] = unreachableCost;
+        
+        offset++;
+        
+        if(lastActiveIndex == patternLength)
+            listener.matchFound(offset, currentMatrixCol[patternLength]);
+        
+        //Rotate the column arrays, priming them for the next char
+        int[] recycledMatrixCol = ancestorMatrixCol;
+        ancestorMatrixCol = previousMatrixCol;
+        previousMatrixCol = currentMatrixCol;
+        currentMatrixCol = recycledMatrixCol;
+        /////
+        
+        previousLastActiveIndex = lastActiveIndex;
+        previousChar = letter;
+    }
+    
+    
+    
+    /**
+     * Scans a range of chars in an array.
+     
+     * @param charArray     an array of chars
+     * @param fromIndex     an int of the index of the first char in {@code charArray} to be scanned
+     * @param toIndex       an int of one past the index of the last char in {@code charArray} to be scanned
+     */
+    public void scan(char[] charArray, int fromIndex, int toIndex)
+    {
+        for(int i = fromIndex; i < toIndex; i++) scan(charArray[i]);
+    }
+    
+    
+    
+    /**
+     * Scans the chars in a CharSequence (such as a String or CharBuffer).
+     
+     * @param charSequence      a CharSequence
+     */
+    public void scan(CharSequence charSequence)
+    {
+        int charCount = charSequence.length();
+        for(int i = 0; i < charCount; i++) scan(charSequence.charAt(i));
+    }
+    
+    
+    
+    /**
+     * Scans the chars that can be read from a Reader, until its end is reached. The Reader is not closed.
+     
+     * @param reader            a Reader
+     * @throws IOException      if an I/O error occurs while reading from {@code reader}
+     */
+    public void scan(Reader reader) throws IOException
+    {
+        char[] bufferArray = new char[STREAMING_BUFFER_SIZE];
+        
+        int readCharCount;
+        while((readCharCount = reader.read(bufferArray, 0, STREAMING_BUFFER_SIZE)) != -1)
+            scan(bufferArray, 0, readCharCount);
+    }
+    
+    
+    
+    /**
+     * Scans the chars of a file by mapping it in to memory, window by window, and decoding it with a given charset.
+     
+     * @param file              a File
+     * @param charset           the Charset that the contents of {@code file} are encoded in
+     * @throws IOException      if {@code file} cannot be mapped or its contents cannot be decoded
+     */
+    public void scan(File file, Charset charset) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        
+        try
+        {
+            FileChannel fileChannel = randomAccessFile.getChannel();
+            long fileSize = fileChannel.size();
+            
+            //An empty file contains no chars (and would leave the decoder un-flushable, since no window would be decoded)
+            if(fileSize == 0) return;
+            
+            CharsetDecoder decoder = charset.newDecoder();
+            CharBuffer charBuffer = CharBuffer.allocate(STREAMING_BUFFER_SIZE);
+            
+            //Loop through the file window by window, decoding each in to charBuffer and scanning its contents. Bytes of 
+            //a char split across windows are left undecoded, and the next window is mapped starting at the first of them
+            long windowStartPosition = 0;
+            while(windowStartPosition < fileSize)
+            {
+                long windowSize = Math.min(MAPPING_WINDOW_SIZE, fileSize - windowStartPosition);
+                MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, windowStartPosition, windowSize);
+                boolean isLastWindow = (windowStartPosition + windowSize == fileSize);
+                
+                CoderResult coderResult;
+                do
+                {
+                    coderResult = decoder.decode(mappedByteBuffer, charBuffer, isLastWindow);
+                    if(coderResult.isError()) coderResult.throwException();
+                    
+                    charBuffer.flip();
+                    scan(charBuffer);
+                    charBuffer.clear();
+                }
+                while(coderResult.isOverflow());
+                
+                windowStartPosition += mappedByteBuffer.position();
+                if(!isLastWindow && mappedByteBuffer.position() == 0) throw new IOException("Undecodable content in " + file);
+            }
+            /////
+            
+            //Flush the chars (if any) the decoder is still holding on to
+            decoder.flush(charBuffer);
+            charBuffer.flip();
+            scan(charBuffer);
+            /////
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+}
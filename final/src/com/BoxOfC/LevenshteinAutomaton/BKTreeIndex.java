@@ -0,0 +1,308 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+
+
+
+/**
+ * A BK-tree (Burkhard-Keller tree) of a collection of Strings: a metric tree in which each String's children are grouped
+ * by their distances from it, so that a search for the Strings within a given edit distance n of a particular String need
+ * only visit the children of a String at distance d from it whose distances lie in [d - n, d + n].
+ * 
+ * Pruning this way relies on the triangle inequality, which the restricted (optimal string alignment) distance used by the
+ * rest of the library does not satisfy ("ca" -> "ac" -> "abc" takes 2 edits, whereas "ca" -> "abc" takes 3). The tree is 
+ * therefore organized by the unrestricted Damerau-Levenshtein distance, which is a metric and never exceeds the restricted
+ * distance; the Strings it finds within n are then verified with the restricted distance, so results are exact.
+ * 
+ * The tree is stored in primitive arrays indexed by the position of each String in the indexed collection: the first child
+ * and next sibling of each node, the distance from each node to its parent, and the largest such distance among each node's 
+ * children (which bounds the distance computations of a search).
+ 
+ * @author Kevin
+ */
+public final class BKTreeIndex
+{
+    //Array containing the indexed Strings; the String at index 0 (if any) is the root of the tree
+    private final String[] strArray;
+    
+    //Arrays containing the index of the first child and next sibling of each node (-1 if there is none)
+    private final int[] firstChildArray;
+    private final int[] nextSiblingArray;
+    /////
+    
+    //Arrays containing the distance of each node from its parent, and the largest distance of each node's children from it
+    private final int[] edgeDistanceArray;
+    private final int[] maxChildEdgeDistanceArray;
+    /////
+    
+    
+    
+    /**
+     * Constructs a BKTreeIndex.
+     
+     * @param strCollection     a Collection containing the Strings to be indexed
+     */
+    public BKTreeIndex(Collection<String> strCollection)
+    {
+        strArray = strCollection.toArray(new String[strCollection.size()]);
+        firstChildArray = new int[strArray.length];
+        nextSiblingArray = new int[strArray.length];
+        edgeDistanceArray = new int[strArray.length];
+        maxChildEdgeDistanceArray = new int[strArray.length];
+        
+        Arrays.fill(firstChildArray, -1);
+        Arrays.fill(nextSiblingArray, -1);
+        
+        for(int i = 1; i < strArray.length; i++) insert(i);
+    }
+    
+    
+    
+    /**
+     * Inserts an indexed String in to the tree.
+     
+     * @param strIndex      an int of the index in strArray of the String to insert
+     */
+    private void insert(int strIndex)
+    {
+        DamerauLevenshteinMetric metric = new DamerauLevenshteinMetric(strArray[strIndex]);
+        int currentNode = 0;
+        
+        //Descend from the root through the children at the String's distance from each node, 
+        //until a node without such a child is reached; the String is made a child of that node
+        while(true)
+        {
+            int distance = metric.computeDistance(strArray[currentNode], Integer.MAX_VALUE - 1);
+            
+            int child = firstChildArray[currentNode];
+            while(child != -1 && edgeDistanceArray[child] != distance) child = nextSiblingArray[child];
+            
+            if(child == -1)
+            {
+                edgeDistanceArray[strIndex] = distance;
+                nextSiblingArray[strIndex] = firstChildArray[currentNode];
+                firstChildArray[currentNode] = strIndex;
+                maxChildEdgeDistanceArray[currentNode] = Math.max(maxChildEdgeDistanceArray[currentNode], distance);
+                return;
+            }
+            else
+                currentNode = child;
+        }
+        /////
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this index.
+     
+     * @return      an int of the number of Strings in this index
+     */
+    public int size()
+    {
+        return strArray.length;
+    }
+    
+    
+    
+    /**
+     * Searches this index for Strings which are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate a String in this
+     *                              index with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing, in the iteration order of the indexed Collection, all the Strings
+     *                              in this index that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public LinkedList<String> fuzzySearch(int maxEditDistance, String pertinentStr)
+    {
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        if(strArray.length == 0 || maxEditDistance < 0) return resultStringLinkedList;
+        
+        DamerauLevenshteinMetric metric = new DamerauLevenshteinMetric(pertinentStr);
+        DistanceKernel distanceKernel = new DistanceKernel(pertinentStr);
+        int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+        
+        int[] nodeStackArray = new int[16];
+        int nodeStackSize = 0;
+        nodeStackArray[nodeStackSize++] = 0;
+        
+        int[] resultIndexArray = new int[16];
+        int resultCount = 0;
+        
+        while(nodeStackSize > 0)
+        {
+            int currentNode = nodeStackArray[--nodeStackSize];
+            
+            //Compute the distance of the node's String from pertinentStr. Its exact value is only needed if it is at most 
+            //maxEditDistance more than the largest child distance, since no child can be within range of a larger one
+            int distance = metric.computeDistance(strArray[currentNode], maxChildEdgeDistanceArray[currentNode] + maxEditDistance);
+            
+            if(distance <= maxEditDistance && distanceKernel.distance(strArray[currentNode], maxEditDistance, histogramScratchArray) <= maxEditDistance)
+            {
+                if(resultCount == resultIndexArray.length) resultIndexArray = Arrays.copyOf(resultIndexArray, 2 * resultCount);
+                resultIndexArray[resultCount++] = currentNode;
+            }
+            /////
+            
+            //Push the children whose distances from the node lie in [distance - maxEditDistance, distance + maxEditDistance]
+            for(int child = firstChildArray[currentNode]; child != -1; child = nextSiblingArray[child])
+            {
+                if(Math.abs(edgeDistanceArray[child] - distance) <= maxEditDistance)
+                {
+                    if(nodeStackSize == nodeStackArray.length) nodeStackArray = Arrays.copyOf(nodeStackArray, 2 * nodeStackSize);
+                    nodeStackArray[nodeStackSize++] = child;
+                }
+            }
+            /////
+        }
+        
+        Arrays.sort(resultIndexArray, 0, resultCount);
+        for(int i = 0; i < resultCount; i++) resultStringLinkedList.add(strArray[resultIndexArray[i]]);
+        
+        return resultStringLinkedList;
+    }
+    
+    
+    
+    /**
+     * Computes unrestricted Damerau-Levenshtein distances (in which a transposed pair of chars may 
+     * also be edited in between) between a fixed String and other Strings, using the Lowrance-Wagner algorithm.
+     */
+    private static final class DamerauLevenshteinMetric
+    {
+        //The fixed String, the sorted array of its distinct chars, and the index of each of its chars in that array
+        private final String fixedStr;
+        private final char[] alphabetArray;
+        private final int[] fixedCharIdArray;
+        /////
+        
+        //Array containing, for each char of alphabetArray, the last processed row of the other String in which it occurred
+        private final int[] lastRowArray;
+        
+        //Flattened distance table, with rows of length fixedStr.length() + 2; grown as necessary
+        private int[] tableArray = new int[0];
+        
+        
+        
+        DamerauLevenshteinMetric(String fixedStr)
+        {
+            this.fixedStr = fixedStr;
+            
+            char[] sortedCharArray = fixedStr.toCharArray();
+            Arrays.sort(sortedCharArray);
+            
+            int alphabetSize = 0;
+            for(int i = 0; i < sortedCharArray.length; i++)
+            {
+                if(i == 0 || sortedCharArray[i] != sortedCharArray[i - 1]) sortedCharArray[alphabetSize++] = sortedCharArray[i];
+            }
+            
+            alphabetArray = Arrays.copyOf(sortedCharArray, alphabetSize);
+            lastRowArray = new int[alphabetSize];
+            fixedCharIdArray = new int[fixedStr.length()];
+            
+            for(int j = 0; j < fixedStr.length(); j++) fixedCharIdArray[j] = Arrays.binarySearch(alphabetArray, fixedStr.charAt(j));
+        }
+        
+        
+        
+        /**
+         * Computes the Damerau-Levenshtein distance between the fixed String and another String, up to a given bound.
+         
+         * @param str               a String
+         * @param maxDistance       an int of the largest distance whose exact value is of interest
+         * @return                  an int of the distance between the fixed String and {@code str} if it is at most 
+         *                          {@code maxDistance}, or {@code maxDistance + 1} otherwise
+         */
+        int computeDistance(String str, int maxDistance)
+        {
+            int rowLength = fixedStr.length() + 2;
+            int tableSize = (str.length() + 2) * rowLength;
+            if(tableArray.length < tableSize) tableArray = new int[tableSize];
+            
+            //Initialize the sentinel row and column (which keep transpositions from reaching past the start of 
+            //either String), and the first row and column (the costs of deleting or inserting all the chars)
+            int infinity = str.length() + fixedStr.length() + 1;
+            tableArray[0] = infinity;
+            
+            for(int j = 0; j <= fixedStr.length(); j++) 
+            {
+                tableArray[j + 1] = infinity;
+                tableArray[rowLength + j + 1] = j;
+            }
+            
+            for(int i = 0; i <= str.length(); i++)
+            {
+                tableArray[(i + 1) * rowLength] = infinity;
+                tableArray[(i + 1) * rowLength + 1] = i;
+            }
+            /////
+            
+            Arrays.fill(lastRowArray, 0);
+            
+            for(int i = 1; i <= str.length(); i++)
+            {
+                char currentChar = str.charAt(i - 1);
+                int currentRowStart = (i + 1) * rowLength;
+                int lastMatchColumn = 0;
+                int rowMinimum = i;
+                
+                for(int j = 1; j <= fixedStr.length(); j++)
+                {
+                    int transpositionRow = lastRowArray[fixedCharIdArray[j - 1]];
+                    int transpositionColumn = lastMatchColumn;
+                    int cost = 1;
+                    
+                    if(currentChar == fixedStr.charAt(j - 1))
+                    {
+                        cost = 0;
+                        lastMatchColumn = j;
+                    }
+                    
+                    int distance = Math.min(tableArray[currentRowStart - rowLength + j] + cost, 
+                                            Math.min(tableArray[currentRowStart + j] + 1, tableArray[currentRowStart - rowLength + j + 1] + 1));
+                    distance = Math.min(distance, tableArray[transpositionRow * rowLength + transpositionColumn] 
+                                                  + (i - transpositionRow - 1) + 1 + (j - transpositionColumn - 1));
+                    
+                    tableArray[currentRowStart + j + 1] = distance;
+                    rowMinimum = Math.min(rowMinimum, distance);
+                }
+                
+                //No entry of a later row can be smaller than the smallest entry of this one
+                if(rowMinimum > maxDistance) return maxDistance + 1;
+                
+                int charId = Arrays.binarySearch(alphabetArray, currentChar);
+                if(charId >= 0) lastRowArray[charId] = i;
+            }
+            
+            return Math.min(tableArray[(str.length() + 1) * rowLength + fixedStr.length() + 1], maxDistance + 1);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * An interface describing an object that is periodically notified of the progress of a {@link PackedDAWGBuilder}.
+ 
+ * @author Kevin
+ */
+public interface DAWGBuildProgressListener
+{
+    /**
+     * Notifies this listener of the progress of a build.
+     
+     * @param stringCount           a long of the number of distinct Strings added to the builder so far
+     * @param nodeCount             an int of the number of nodes frozen by the builder so far
+     * @param transitionCount       an int of the number of transitions of the frozen nodes
+     * @param isFinished            true if the builder's graph has been finished; false otherwise
+     */
+    public void progressMade(long stringCount, int nodeCount, int transitionCount, boolean isFinished);
+}
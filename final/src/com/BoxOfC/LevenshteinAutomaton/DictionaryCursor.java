@@ -0,0 +1,126 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * An interface describing an object positioned at a node in the graph
+ * of a {@link FuzzySearchableDictionary}. The outgoing transitions of 
+ * the node are indexed from 0 in ascending order of their labels.
+ * 
+ * Besides creating new DictionaryCursors for the nodes it leads to, a DictionaryCursor can be
+ * repositioned at the target of a transition of another, which allows traversals to reuse
+ * a single DictionaryCursor per depth instead of creating one for every transition followed.
+ 
+ * @author Kevin
+ */
+public interface DictionaryCursor
+{
+    /**
+     * Determines if the node this DictionaryCursor is positioned at is an accept node.
+     
+     * @return      true if the char sequence leading to the node this DictionaryCursor
+     *              is positioned at is a String in the dictionary; false otherwise
+     */
+    public boolean isAcceptNode();
+    
+    
+    
+    /**
+     * Retrieves the number of outgoing transitions of the node this DictionaryCursor is positioned at.
+     
+     * @return      an int of the number of outgoing transitions of the node this DictionaryCursor is positioned at
+     */
+    public int getOutgoingTransitionCount();
+    
+    
+    
+    /**
+     * Retrieves the label of one of the outgoing transitions of the node this DictionaryCursor is positioned at.
+     
+     * @param transitionIndex       an int in [0, {@link #getOutgoingTransitionCount()}) denoting the transition of interest
+     * @return                      the char labeling the outgoing transition at {@code transitionIndex}
+     */
+    public char getOutgoingTransitionLabel(int transitionIndex);
+    
+    
+    
+    /**
+     * Retrieves a DictionaryCursor positioned at the target node of one of the
+     * outgoing transitions of the node this DictionaryCursor is positioned at.
+     
+     * @param transitionIndex       an int in [0, {@link #getOutgoingTransitionCount()}) denoting the transition of interest
+     * @return                      a DictionaryCursor positioned at the target node of the outgoing transition at {@code transitionIndex}
+     */
+    public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex);
+    
+    
+    
+    /**
+     * Retrieves a DictionaryCursor positioned at the node reachable from the node 
+     * this DictionaryCursor is positioned at by a transition on a given char.
+     
+     * @param letter        a char
+     * @return              a DictionaryCursor positioned at the target node of the outgoing 
+     *                      transition labeled by {@code letter}, or null if no such transition exists
+     */
+    public DictionaryCursor transition(char letter);
+    
+    
+    
+    /**
+     * Creates a DictionaryCursor positioned at the node this DictionaryCursor is 
+     * positioned at, which can be repositioned independently of this one.
+     
+     * @return      a new DictionaryCursor positioned at the node this DictionaryCursor is positioned at
+     */
+    public DictionaryCursor copy();
+    
+    
+    
+    /**
+     * Repositions this DictionaryCursor at the target node of one of the outgoing 
+     * transitions of the node another DictionaryCursor is positioned at.
+     
+     * @param parentCursor          a DictionaryCursor other than this one, created by the same dictionary as this one
+     * @param transitionIndex       an int in [0, {@code parentCursor.getOutgoingTransitionCount()}) denoting the transition of interest
+     */
+    public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex);
+    
+    
+    
+    /**
+     * Repositions this DictionaryCursor at the node reachable from the node another
+     * DictionaryCursor is positioned at by a transition on a given char.
+     
+     * @param parentCursor      a DictionaryCursor other than this one, created by the same dictionary as this one
+     * @param letter            a char
+     * @return                  true if {@code parentCursor}'s node has an outgoing transition labeled by {@code letter} 
+     *                          (and this DictionaryCursor has been repositioned at its target); false otherwise
+     *                          (in which case this DictionaryCursor is left where it was)
+     */
+    public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter);
+}
@@ -0,0 +1,146 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * A utility class which computes compact signatures of Strings, from which a lower bound of
+ * the edit distance between two Strings can be determined with a handful of bitwise operations.
+ * 
+ * Two signatures are used, each packed in to a long. The presence signature has a bit set for each of the 64 buckets
+ * that a String's chars fall in (a char falls in the bucket given by its low six bits). The histogram signature holds, for
+ * each of 8 buckets (given by a char's low three bits), an 8-bit count of the String's chars that fall in the bucket, 
+ * saturating at 255. Since saturation never increases the difference between two counts, the bounds remain valid.
+ 
+ * @author Kevin
+ */
+public final class EditDistanceSignature
+{
+    //The number of buckets of the histogram signature, and the number of bits used by the count of each
+    private static final int HISTOGRAM_BUCKET_COUNT = 8;
+    private static final int HISTOGRAM_BUCKET_BIT_COUNT = 8;
+    /////
+    
+    //The largest count a bucket of the histogram signature can hold
+    private static final long HISTOGRAM_BUCKET_MAX_COUNT = (1L << HISTOGRAM_BUCKET_BIT_COUNT) - 1;
+    
+    
+    
+    /**
+     * Hidden EditDistanceSignature constructor.
+     */
+    private EditDistanceSignature(){}
+    
+    
+    
+    /**
+     * Computes the presence signature of a String.
+     
+     * @param str       a CharSequence
+     * @return          a long with bit i set if and only if {@code str} contains a char whose low six bits equal i
+     */
+    public static long computePresenceSignature(CharSequence str)
+    {
+        long presenceSignature = 0;
+        
+        int strLength = str.length();
+        for(int i = 0; i < strLength; i++) presenceSignature |= (1L << str.charAt(i));
+        
+        return presenceSignature;
+    }
+    
+    
+    
+    /**
+     * Computes the histogram signature of a String.
+     
+     * @param str       a CharSequence
+     * @return          a long whose byte i holds the number of chars in {@code str} whose low three bits equal i, up to 255
+     */
+    public static long computeHistogramSignature(CharSequence str)
+    {
+        long histogramSignature = 0;
+        
+        int strLength = str.length();
+        for(int i = 0; i < strLength; i++)
+        {
+            int shift = (str.charAt(i) & (HISTOGRAM_BUCKET_COUNT - 1)) * HISTOGRAM_BUCKET_BIT_COUNT;
+            if(((histogramSignature >>> shift) & HISTOGRAM_BUCKET_MAX_COUNT) != HISTOGRAM_BUCKET_MAX_COUNT) histogramSignature += (1L << shift);
+        }
+        
+        return histogramSignature;
+    }
+    
+    
+    
+    /**
+     * Computes a lower bound of the edit distance between two Strings from their signatures.
+     
+     * @param presenceSignature1        a long of the presence signature of a String
+     * @param histogramSignature1       a long of the histogram signature of the same String
+     * @param presenceSignature2        a long of the presence signature of another String
+     * @param histogramSignature2       a long of the histogram signature of the other String
+     * @return                          an int of a lower bound of the edit distance between the two Strings
+     */
+    public static int computeLowerBound(long presenceSignature1, long histogramSignature1, long presenceSignature2, long histogramSignature2)
+    {
+        //Each insertion or deletion adds or removes at most one bucket from a String's presence signature, 
+        //and each substitution at most one of each, so at least half the buckets that differ must be edited
+        int presenceLowerBound = (Long.bitCount(presenceSignature1 ^ presenceSignature2) + 1) >>> 1;
+        
+        //Total the surplus chars of each String. Each insertion and deletion removes a surplus char from one of 
+        //the Strings, each substitution removes at most one from each, and transpositions remove none
+        int surplus1 = 0;
+        int surplus2 = 0;
+        
+        for(int shift = 0; shift < HISTOGRAM_BUCKET_COUNT * HISTOGRAM_BUCKET_BIT_COUNT; shift += HISTOGRAM_BUCKET_BIT_COUNT)
+        {
+            int countDifference = (int)((histogramSignature1 >>> shift) & HISTOGRAM_BUCKET_MAX_COUNT) 
+                                  - (int)((histogramSignature2 >>> shift) & HISTOGRAM_BUCKET_MAX_COUNT);
+            
+            if(countDifference > 0) surplus1 += countDifference;
+            else                    surplus2 -= countDifference;
+        }
+        /////
+        
+        return Math.max(presenceLowerBound, Math.max(surplus1, surplus2));
+    }
+    
+    
+    
+    /**
+     * Computes a lower bound of the edit distance between two Strings from their signatures.
+     
+     * @param str1      a CharSequence
+     * @param str2      a CharSequence
+     * @return          an int of a lower bound of the edit distance between {@code str1} and {@code str2}
+     */
+    public static int computeLowerBound(CharSequence str1, CharSequence str2)
+    {
+        return computeLowerBound(computePresenceSignature(str1), computeHistogramSignature(str1), 
+                                 computePresenceSignature(str2), computeHistogramSignature(str2));
+    }
+}
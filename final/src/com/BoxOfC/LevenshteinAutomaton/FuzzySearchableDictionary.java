@@ -0,0 +1,47 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * An interface describing a collection of Strings that can be searched by
+ * the dictionary-based fuzzy search methods of {@link LevenshteinAutomaton}.
+ * 
+ * The Strings of a FuzzySearchableDictionary are exposed as the transition paths of 
+ * a graph (trie, DAWG, etc.) whose nodes are traversed using {@link DictionaryCursor}s.
+ 
+ * @author Kevin
+ */
+public interface FuzzySearchableDictionary
+{
+    /**
+     * Retrieves a DictionaryCursor positioned at the source node of this dictionary's graph.
+     
+     * @return      a DictionaryCursor positioned at the node that all of 
+     *              the transition paths in this dictionary start from
+     */
+    public DictionaryCursor getSourceCursor();
+}
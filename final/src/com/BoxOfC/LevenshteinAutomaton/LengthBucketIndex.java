@@ -0,0 +1,162 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+
+
+
+/**
+ * An index of a collection of Strings which groups them by length, allowing searches for the Strings within a given
+ * edit distance n of a particular String to process only the Strings whose lengths differ from its by at most n.
+ * 
+ * The Strings are stored in a single array, sorted by length and then lexicographically, so that each length's bucket
+ * is a contiguous range of the array in which consecutive Strings tend to share prefixes whose computations can be reused.
+ * The signatures of the Strings are precomputed, so that most of those too far from the String of interest are skipped
+ * without any edit distance computation.
+ 
+ * @author Kevin
+ */
+public final class LengthBucketIndex
+{
+    //Comparator which orders Strings by length, and Strings of equal length lexicographically
+    private static final Comparator<String> lengthFirstComparator = new Comparator<String>()
+    {
+        @Override
+        public int compare(String str1, String str2)
+        {
+            return (str1.length() != str2.length() ? Integer.compare(str1.length(), str2.length()) : str1.compareTo(str2));
+        }
+    };
+    
+    //Array containing the indexed Strings, sorted using lengthFirstComparator
+    private final String[] sortedStrArray;
+    
+    //Array whose element at index i contains the index in sortedStrArray of the first String with length 
+    //i (or of the first longer String, if there are no Strings of length i). Its last element is sortedStrArray.length
+    private final int[] bucketStartArray;
+    
+    //Arrays containing the presence and histogram signatures (see EditDistanceSignature) of each String in sortedStrArray
+    private final long[] presenceSignatureArray;
+    private final long[] histogramSignatureArray;
+    /////
+    
+    
+    
+    /**
+     * Constructs a LengthBucketIndex.
+     
+     * @param strCollection     a Collection containing the Strings to be indexed
+     */
+    public LengthBucketIndex(Collection<String> strCollection)
+    {
+        sortedStrArray = strCollection.toArray(new String[strCollection.size()]);
+        Arrays.sort(sortedStrArray, lengthFirstComparator);
+        
+        int maxLength = (sortedStrArray.length > 0 ? sortedStrArray[sortedStrArray.length - 1].length() : 0);
+        bucketStartArray = new int[maxLength + 2];
+        
+        //Determine the start of each length's bucket by walking the Strings in order,
+        //setting the starts of all lengths up to that of each String as it is reached
+        int currentLength = 0;
+        for(int i = 0; i < sortedStrArray.length; i++)
+        {
+            while(currentLength <= sortedStrArray[i].length()) bucketStartArray[currentLength++] = i;
+        }
+        
+        while(currentLength < bucketStartArray.length) bucketStartArray[currentLength++] = sortedStrArray.length;
+        /////
+        
+        presenceSignatureArray = new long[sortedStrArray.length];
+        histogramSignatureArray = new long[sortedStrArray.length];
+        
+        for(int i = 0; i < sortedStrArray.length; i++)
+        {
+            presenceSignatureArray[i] = EditDistanceSignature.computePresenceSignature(sortedStrArray[i]);
+            histogramSignatureArray[i] = EditDistanceSignature.computeHistogramSignature(sortedStrArray[i]);
+        }
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this index.
+     
+     * @return      an int of the number of Strings in this index
+     */
+    public int size()
+    {
+        return sortedStrArray.length;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this index with a given length.
+     
+     * @param length        an int
+     * @return              an int of the number of Strings in this index that have {@code length} chars
+     */
+    public int getBucketSize(int length)
+    {
+        if(length < 0 || length >= bucketStartArray.length - 1) return 0;
+        
+        return bucketStartArray[length + 1] - bucketStartArray[length];
+    }
+    
+    
+    
+    /**
+     * Searches this index for Strings which are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in this index with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing, ordered by length and then lexicographically, all the Strings 
+     *                              in this index that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public LinkedList<String> fuzzySearch(int maxEditDistance, String pertinentStr)
+    {
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        int[][] editDistanceRowArray = LevenshteinAutomaton.createEditDistanceRowArray(maxEditDistance, pertinentStr);
+        
+        //Search the buckets of the lengths that differ from that of pertinentStr by at most maxEditDistance
+        int minLength = Math.max(0, pertinentStr.length() - maxEditDistance);
+        int maxLength = Math.min(bucketStartArray.length - 2, pertinentStr.length() + maxEditDistance);
+        
+        for(int length = minLength; length <= maxLength; length++)
+        {
+            if(bucketStartArray[length] < bucketStartArray[length + 1])
+                LevenshteinAutomaton.incrementalFuzzySearch(maxEditDistance, pertinentStr, sortedStrArray, presenceSignatureArray, histogramSignatureArray, 
+                                                            bucketStartArray[length], bucketStartArray[length + 1], editDistanceRowArray, resultStringLinkedList);
+        }
+        /////
+        
+        return resultStringLinkedList;
+    }
+}
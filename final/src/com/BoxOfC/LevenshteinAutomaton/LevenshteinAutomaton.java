@@ -24,17 +24,22 @@
 package com.BoxOfC.LevenshteinAutomaton;
 
 import com.BoxOfC.MDAG.MDAG;
-import com.BoxOfC.MDAG.MDAGNode;
 import com.BoxOfC.MDAG.SimpleMDAGNode;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.Stack;
-import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 
 
@@ -52,9 +57,24 @@ public class LevenshteinAutomaton
     //The State that will serve as the initial state that all automaton operations will start from
     private static final State initialState = new State(new Position[] {new Position(0, 0, false)});
     
+    //The ParametricState describing the form of initialState (and that of every other State consisting solely of a zero-edit Position)
+    private static final ParametricState initialParametricState = new ParametricState(initialState);
+    
     
 
    /**
+     * Retrieves the State that all automaton operations start from.
+     
+     * @return      the State consisting solely of the zero-edit Position at boundary 0
+     */
+    static State getInitialState()
+    {
+        return initialState;
+    }
+    
+    
+    
+    /**
      * Hidden LevenshteinAutomaton constructor.
      */
     private LevenshteinAutomaton(){}
@@ -157,6 +177,43 @@ public class LevenshteinAutomaton
     
     
     
+    /**
+     * Computes the edit distance between two Strings, abandoning the computation once it exceeds a given maximum.
+     * The computation is carried out using the calling thread's EditDistanceWorkspace, so no memory is allocated per call.
+     
+     * @param str1                  a String
+     * @param str2                  a String
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between {@code str1} and {@code str2} if it is 
+     *                              at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    public static int computeEditDistance(String str1, String str2, int maxEditDistance)
+    {
+        return EditDistanceWorkspace.getThreadLocalInstance().computeEditDistance(str1, str2, maxEditDistance);
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between two Strings using a bit-parallel algorithm.
+     * Produces the same results as computeEditDistance in O(ceil(m / 64) * n) word operations,
+     * where m and n are the lengths of the shorter and longer String respectively.
+     
+     * @param str1      a String
+     * @param str2      a String
+     * @return          an int of the edit distance between {@code str1} and {@code str2}
+     */
+    public static int computeEditDistanceBitParallel(String str1, String str2)
+    {
+        //Preprocess the shorter String, minimizing the number of blocks processed per char of the longer one
+        if(str1.length() <= str2.length())
+            return new BitParallelPattern(str1).computeEditDistance(str2);
+        else
+            return new BitParallelPattern(str2).computeEditDistance(str1);
+    }
+    
+    
+    
     /**
      * Determines if two Strings are within a specified edit distance of one another, using a dynamic programming approach.
      
@@ -169,7 +226,11 @@ public class LevenshteinAutomaton
      */
     public static boolean isWithinEditDistanceNonAutomaton(int maxEditDistance, String str1, String str2)
     {
-        return (computeEditDistance(str1, str2) <= maxEditDistance);
+        //Rule out Strings whose lengths alone show they are too far apart before computing the edit distance
+        if(Math.abs(str1.length() - str2.length()) > maxEditDistance)
+            return false;
+        else
+            return (computeEditDistance(str1, str2, maxEditDistance) <= maxEditDistance);
     }
     
     
@@ -446,46 +507,34 @@ public class LevenshteinAutomaton
     
 
     /**
-     * Creates an array of objects collectively representing a processing step in an automaton-based fuzzy search.
+     * Creates the FuzzySearchableDictionary that is appropriate for an MDAG in its current (simplified or unsimplified) form.
      
-     * @param transitionPathString                  the sequence of characters used to for transition to the to-be-saved processing step
-     * @param mdagTransitionPathEndNode             the MDAGNode of interest in the to-be-saved processing step
-     * @param lAutomatonTransitionPathEndState      the State of interest in the to-be-saved processing step
-     * @return                                      an array containing {@code transitionPathString}, {@code mdagTransitionPathEndNode},
-     *                                              and {@code lAutomatonTransitionPathEndState}
+     * @param mdag      an MDAG
+     * @return          a SimpleMDAGDictionary backed by {@code mdag} if it has been simplified, 
+     *                  or an MDAGDictionary backed by {@code mdag} otherwise
      */
-    private static Object[] createProcessingStepStackEntry(String transitionPathString, Object mdagTransitionPathEndNode, State lAutomatonTransitionPathEndState)
+    static FuzzySearchableDictionary createFuzzySearchableDictionary(MDAG mdag)
     {
-        Object[] processingStepDataArray = new Object[3];
-        processingStepDataArray[0] = transitionPathString;
-        processingStepDataArray[1] = mdagTransitionPathEndNode;
-        processingStepDataArray[2] = lAutomatonTransitionPathEndState;
-
-        return processingStepDataArray;
+        return (mdag.getSourceNode() instanceof SimpleMDAGNode ? new SimpleMDAGDictionary(mdag) : new MDAGDictionary(mdag));
     }
     
     
     
-    /**
-     * Creates an array of objects collectively representing a processing step in a tabled-based fuzzy search.
+     /**
+     * Searches a collection of Strings for those which are within a given edit distance from a particular string.
+     * This version of fuzzy search traverses through the States of a Levenshtein automata,
+     * and will be the slowest of all the fuzzy search methods in most use cases
      
-     * @param transitionPathString                              the sequence of characters used to for transition to the to-be-saved processing step
-     * @param mdagTransitionPathEndNode                         the MDAGNode of interest in the to-be-saved processing step
-     * @param lAutomatonTransitionPathEndState                  the State of interest in the to-be-saved processing step
-     * @param lAutomatonTransitionPathEndParametricState        the ParametricState of interest in the to-be-saved processing step
-     * @return                                                  an array containing {@code transitionPathString}, {@code mdagTransitionPathEndNode},
-     *                                                          and {@code lAutomatonTransitionPathEndState}
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param mdag                  an MDAG containing the set of Strings to be processed against {@code automatonString}
+     * @return                      a LinkedList containing all the Strings in {@code mdag} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
      */
-    private static Object[] createProcessingStepStackEntry(String transitionPathString, Object mdagTransitionPathEndNode,
-            State lAutomatonTransitionPathEndState, ParametricState lAutomatonTransitionPathEndParametricState)
+    public static LinkedList<String> iterativeFuzzySearch(int maxEditDistance, String automatonString, MDAG mdag)
     {
-        Object[] processingStepDataArray = new Object[4];
-        processingStepDataArray[0] = transitionPathString;
-        processingStepDataArray[1] = mdagTransitionPathEndNode;
-        processingStepDataArray[2] = lAutomatonTransitionPathEndState;
-        processingStepDataArray[3] = lAutomatonTransitionPathEndParametricState;
-        
-        return processingStepDataArray;
+        return iterativeFuzzySearch(maxEditDistance, automatonString, createFuzzySearchableDictionary(mdag));
     }
     
     
@@ -498,76 +547,72 @@ public class LevenshteinAutomaton
      * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
      *                              a String in the to-be-searched collection with the String of interest
      * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
-     * @param mdag                  an MDAG containing the set of Strings to be processed against {@code automatonString}
-     * @return                      a LinkedList containing all the Strings in {@code mdag} that are at most
+     * @param dictionary            a FuzzySearchableDictionary containing the set of Strings to be processed against {@code automatonString}
+     * @return                      a LinkedList containing all the Strings in {@code dictionary} that are at most
      *                              {@code maxEditDistance} away from {@code automatonString}
      */
-    public static LinkedList<String> iterativeFuzzySearch(int maxEditDistance, String automatonString, MDAG mdag)
+    public static LinkedList<String> iterativeFuzzySearch(int maxEditDistance, String automatonString, FuzzySearchableDictionary dictionary)
     {
-        //LinkedList which will contain Strings in mdag that are within maxEditDistance of automatonString
+        //LinkedList which will contain Strings in dictionary that are within maxEditDistance of automatonString
         LinkedList<String> resultStringLinkedList = new LinkedList<String>();
         
-        //Stack to store collections of objects which collectively represent steps in the search process
-        Stack<Object[]> processingStepStack = new Stack<Object[]>();
+        int automatonStringLength = automatonString.length();
         
-        boolean mdagIsSimplified = mdag.getSourceNode().getClass().equals(SimpleMDAGNode.class);
-        SimpleMDAGNode[] simpleMDAGArray = mdag.getSimpleMDAGArray();
+        //Arrays, indexed by depth, containing the DictionaryCursor and State of each processing step on the current transition path, as 
+        //well as the index of the next outgoing transition of the step's node to be processed. No State is reachable by a path longer than 
+        //automatonStringLength + maxEditDistance, and the DictionaryCursors are repositioned instead of being created for each transition
+        int maxDepth = automatonStringLength + maxEditDistance;
+        DictionaryCursor[] cursorArray = new DictionaryCursor[maxDepth + 1];
+        State[] stateArray = new State[maxDepth + 1];
+        int[] nextTransitionIndexArray = new int[maxDepth + 1];
+        /////
         
-        //Push onto processingStepStack collection of objects which represent the start step of the search process
-        processingStepStack.push(createProcessingStepStackEntry("", mdag.getSourceNode(), initialState));
+        //Array containing the chars of the current transition path
+        char[] transitionPathCharArray = new char[maxDepth];
         
-        //Retrieve the set of characters composing the Strings in mdag
-        TreeSet<Character> charTreeSet = mdag.getTransitionLabelSet();
-        int charCount = charTreeSet.size();
-        /////
-
-        //Iterate through charTreeSet, inserting each char in to charArray
-        int counter = 0;
-        char[] charArray = new char[charCount];
-        for(Character c : charTreeSet) charArray[counter++] = c.charValue();
-        /////
+        cursorArray[0] = dictionary.getSourceCursor();
+        stateArray[0] = initialState;
+        
+        //The empty String is not reached by any transition, so add it directly if it is in dictionary and close enough to automatonString
+        if(cursorArray[0].isAcceptNode() && isAcceptState(initialState, automatonStringLength, maxEditDistance))
+            resultStringLinkedList.add("");
         
-        //Transition through the MDAG and automaton in-sync, adding to resultStringLinkedList
-        //the char sequences that lead to both an accept node (MDAG) and accept state (automaton)
-        while(!processingStepStack.isEmpty())
+        //Transition through the dictionary and automaton in-sync (depth-first), adding to resultStringLinkedList
+        //the char sequences that lead to both an accept node (dictionary) and accept state (automaton)
+        int depth = 0;
+        while(depth >= 0)
         {
-            //Pop the processing step at the top of the stack and re-cast its contents
-            Object[] currentProcessingStepDataArray = processingStepStack.pop();  
+            DictionaryCursor currentCursor = cursorArray[depth];
+            int transitionIndex = nextTransitionIndexArray[depth]++;
             
-            Object currentNodeObj = currentProcessingStepDataArray[1];
-            State currentState = (State)currentProcessingStepDataArray[2];
+            //Return to the previous processing step if all the outgoing transitions of the current node have been processed
+            if(transitionIndex == currentCursor.getOutgoingTransitionCount())
+            {
+                depth--;
+                continue;
+            }
             /////
+            
+            char currentChar = currentCursor.getOutgoingTransitionLabel(transitionIndex);
+
+            //Execute a transition on the current automaton State using currentChar
+            State transitionState = stateArray[depth].transition(maxEditDistance, automatonString, currentChar);
 
-            //Loop through the chars in charArray, using each to transition the node & state in the
-            //processing step at the top of the stack. If both the node and state have valid
-            //transitions on a particular char, push the resulting transition String, node,
-            //and State on the top of the stack
-            for(int i = 0; i < charCount; i++)
+            //If the State has a valid transition on currentChar, make the processing step at its target the current one
+            if(transitionState != null)
             {
-                char currentChar = charArray[i];
+                transitionPathCharArray[depth++] = currentChar;
                 
-                //Execute a transition on the current MDAG node using currentChar
-                Object transitionNode = (mdagIsSimplified ? ((SimpleMDAGNode)currentNodeObj).transition(simpleMDAGArray, currentChar) : ((MDAGNode)currentNodeObj).transition(currentChar));
-                
-                if(transitionNode != null)
-                {
-                    //Execute a transition on the current automaton State using currentChar
-                    State transitionState = currentState.transition(maxEditDistance, automatonString, currentChar);
+                if(cursorArray[depth] == null) cursorArray[depth] = currentCursor.copy();
+                cursorArray[depth].setToOutgoingTransitionTarget(currentCursor, transitionIndex);
+                stateArray[depth] = transitionState;
+                nextTransitionIndexArray[depth] = 0;
 
-                    if(transitionState != null)
-                    {
-                        //Push the resulting processing step on to the top of processingStepStack
-                        String transitionPathString = (String)currentProcessingStepDataArray[0] + currentChar;
-                        processingStepStack.push(createProcessingStepStackEntry(transitionPathString, transitionNode, transitionState));
-                        /////
-
-                        //If both transitionNode and transitionState are "accepting", add the sequence of chars that lead to them to resultStringLinkedList
-                        if(MDAG.isAcceptNode(transitionNode) && isAcceptState(transitionState, automatonString.length(), maxEditDistance))
-                            resultStringLinkedList.add(transitionPathString);
-                    }
-                }
+                //If both the target node and transitionState are "accepting", add the sequence of chars that lead to them to resultStringLinkedList
+                if(cursorArray[depth].isAcceptNode() && isAcceptState(transitionState, automatonStringLength, maxEditDistance))
+                    resultStringLinkedList.add(new String(transitionPathCharArray, 0, depth));
             }
-            ///// 
+            /////
         }
         /////
         
@@ -575,7 +620,7 @@ public class LevenshteinAutomaton
     }
     
     
-
+    
     /**
      * Searches a collection of Strings for those which are within a given edit distance from a particular String.
      * 
@@ -592,87 +637,775 @@ public class LevenshteinAutomaton
      */
     public static LinkedList<String> tableFuzzySearch(int maxEditDistance, String automatonString, MDAG mdag)
     {
-        //LinkedList which will contain Strings in mdag that are within maxEditDistance of automatonString
-        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        return tableFuzzySearch(maxEditDistance, automatonString, createFuzzySearchableDictionary(mdag));
+    }
+    
+    
+
+    /**
+     * Carries out a table-based fuzzy search, counting and optionally collecting the 
+     * Strings in a dictionary that are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance               an int denoting the maximum amount of edit operations that can separate
+     *                                      a String in the to-be-searched collection with the String of interest
+     * @param automatonString               the String that all edit-distance calculations are to be carried out in relation to
+     * @param dictionary                    a FuzzySearchableDictionary containing the set of Strings to be processed against {@code automatonString}
+     * @param resultStringLinkedList        the LinkedList that matching Strings are to be added to, or null if 
+     *                                      they are only to be counted (in which case no path Strings are built)
+     * @param stopsAtFirstMatch             true if the search should end as soon as a matching String is found; false otherwise
+     * @return                              an int of the number of Strings in {@code dictionary} found to be at most
+     *                                      {@code maxEditDistance} away from {@code automatonString}
+     */
+    private static int tableFuzzySearch(int maxEditDistance, String automatonString, FuzzySearchableDictionary dictionary, 
+                                        LinkedList<String> resultStringLinkedList, boolean stopsAtFirstMatch)
+    {
+        //The number of Strings in dictionary found to be within maxEditDistance of automatonString
+        int matchCount = 0;
         
         //HashMap containing the transition relationships between the parametric states of an automaton with maxEditDistance
         createParametricStateTransitionMap(maxEditDistance);
         HashMap<ParametricState, HashMap<AugBitSet, ParametricState>> transitionHashMap = transitionHashMapContainerHashMap.get(maxEditDistance);
         
-        //Stack to store collections of objects which collectively represent steps in the search process
-        Stack<Object[]> processingStepStack = new Stack<Object[]>();
-
-        boolean mdagIsSimplified = mdag.getSourceNode().getClass().equals(SimpleMDAGNode.class);
-        SimpleMDAGNode[] simpleMDAGArray = mdag.getSimpleMDAGArray();
+        //The map containing the transitions of the ParametricState of zero-edit States 
+        HashMap<AugBitSet, ParametricState> diagonalTransitionHashMap = transitionHashMap.get(initialParametricState);
         
-        //Push onto processingStepStack the collection of objects which represent the start step of the search process
-        processingStepStack.push(createProcessingStepStackEntry("", mdag.getSourceNode(), initialState, new ParametricState(initialState)));
+        int automatonStringLength = automatonString.length();
         
-        //Retrieve the set of characters composing the Strings in mdag
-        TreeSet<Character> charTreeSet = mdag.getTransitionLabelSet();
-        int charCount = charTreeSet.size();
+        //Arrays, indexed by depth, containing the DictionaryCursor, State and ParametricState of each processing step on the current 
+        //transition path, as well as the index of the next outgoing transition of the step's node to be processed. No State is reachable 
+        //by a path longer than automatonStringLength + maxEditDistance, and the DictionaryCursors are repositioned instead of being 
+        //created for each transition.
+        //
+        //A processing step on the automaton's diagonal (the path of zero-edit States produced by exact matches of automatonString's chars)
+        //has a State consisting solely of the zero-edit Position with a boundary equal to its depth. Such a step is represented by a null
+        //State, and starts at transition index -1, which denotes the transition on the automatonString char at its boundary (if any)
+        int maxDepth = automatonStringLength + maxEditDistance;
+        DictionaryCursor[] cursorArray = new DictionaryCursor[maxDepth + 1];
+        State[] stateArray = new State[maxDepth + 1];
+        ParametricState[] parametricStateArray = new ParametricState[maxDepth + 1];
+        int[] nextTransitionIndexArray = new int[maxDepth + 1];
         /////
         
-        //Iterate through charTreeSet, inserting each char in to charArray
-        int counter = 0;
-        char[] charArray = new char[charCount];
-        for(Character c : charTreeSet) charArray[counter++] = c.charValue();
+        //Array containing the chars of the current transition path (only needed if the matches themselves are to be collected)
+        char[] transitionPathCharArray = (resultStringLinkedList != null ? new char[maxDepth] : null);
+        
+        cursorArray[0] = dictionary.getSourceCursor();
+        nextTransitionIndexArray[0] = (automatonStringLength > 0 ? -1 : 0);
+        
+        //The empty String is not reached by any transition, so count it (adding it to resultStringLinkedList 
+        //if necessary) directly if it is in dictionary and close enough to automatonString
+        if(cursorArray[0].isAcceptNode() && automatonStringLength <= maxEditDistance)
+        {
+            matchCount++;
+            if(resultStringLinkedList != null) resultStringLinkedList.add("");
+            if(stopsAtFirstMatch) return matchCount;
+        }
         /////
         
-        //Transition through the MDAG and the automaton represented by transitionHashMap in-sync, adding to 
-        //resultStringLinkedList the char sequences that lead to both an accept node (MDAG) and accept state (transition map)
-        while(!processingStepStack.isEmpty())
+        //Transition through the dictionary and the automaton represented by transitionHashMap in-sync (depth-first), counting 
+        //(and if necessary, adding to resultStringLinkedList) the char sequences that lead to both an accept node (dictionary) 
+        //and accept state (transition map)
+        int depth = 0;
+        while(depth >= 0)
         {
-            //Pop the processing step at the top of the stack and re-cast its contents
-            Object[] currentProcessingStepDataArray = processingStepStack.pop(); 
-            
-            Object currentNodeObj = currentProcessingStepDataArray[1];
-            State currentState = (State)currentProcessingStepDataArray[2];
-            ParametricState currentParametricState = (ParametricState)currentProcessingStepDataArray[3];
-            /////
+            DictionaryCursor currentCursor = cursorArray[depth];
+            State currentState = stateArray[depth];
+            int transitionIndex = nextTransitionIndexArray[depth]++;
             
-            //Loop through the chars in charArray, using each to transition the node & state in the
-            //processing step at the top of the stack. If both the node and state have valid
-            //transitions on a particular char, push the resulting transition String, node,
-            //and State on the top of the stack
-            for(int i = 0; i < charCount; i++)
+            if(transitionIndex == -1)
             {
-                char currentChar = charArray[i];
-
-                //Execute a transition on the current MDAG node using currentChar     
-                Object transitionNode = (mdagIsSimplified ? ((SimpleMDAGNode)currentNodeObj).transition(simpleMDAGArray, currentChar) : ((MDAGNode)currentNodeObj).transition(currentChar));
+                //The current processing step is on the diagonal, so directly follow the transition on the next automatonString char
+                //(if it exists), which simply advances the zero-edit Position by one. This requires neither a relevant subword 
+                //characteristic vector nor a transitionHashMap lookup, and the resulting processing step stays on the diagonal
+                char diagonalChar = automatonString.charAt(depth);
                 
-                if(transitionNode != null)
+                if(cursorArray[depth + 1] == null) cursorArray[depth + 1] = currentCursor.copy();
+                
+                if(cursorArray[depth + 1].setToTransitionTarget(currentCursor, diagonalChar))
                 {
-                    //Get currentState's relevant subword (with respect to currentChar) and  
-                    //use it to get the parametric version of the transition's result State
-                    AugBitSet rscv = currentState.getRelevantSubwordCharacteristicVector(maxEditDistance, automatonString, currentChar);  
-                    ParametricState transitionParametricState = transitionHashMap.get(currentParametricState).get(rscv);
+                    if(transitionPathCharArray != null) transitionPathCharArray[depth] = diagonalChar;
+                    depth++;
+                    
+                    stateArray[depth] = null;
+                    nextTransitionIndexArray[depth] = (depth < automatonStringLength ? -1 : 0);
+                    
+                    //If the target node is an accept node and automatonString's remaining chars can be deleted, count the
+                    //sequence of chars that lead to it (adding it to resultStringLinkedList if necessary), ending the search if desired
+                    if(cursorArray[depth].isAcceptNode() && automatonStringLength - depth <= maxEditDistance)
+                    {
+                        matchCount++;
+                        if(resultStringLinkedList != null) resultStringLinkedList.add(new String(transitionPathCharArray, 0, depth));
+                        if(stopsAtFirstMatch) return matchCount;
+                    }
                     /////
+                }
+                /////
+                
+                continue;
+            }
+            
+            //Return to the previous processing step if all the outgoing transitions of the current node have been processed
+            if(transitionIndex == currentCursor.getOutgoingTransitionCount())
+            {
+                depth--;
+                continue;
+            }
+            /////
+            
+            char currentChar = currentCursor.getOutgoingTransitionLabel(transitionIndex);
+            
+            //Get the relevant subword characteristic vector (with respect to currentChar) of the current processing step's 
+            //State, as well as the map containing the transitions of the State's ParametricState. On the diagonal, the
+            //transition on the automatonString char at the State's boundary has already been followed, so it is skipped
+            int minimalBoundary;
+            AugBitSet rscv;
+            HashMap<AugBitSet, ParametricState> parametricStateTransitionHashMap;
+            
+            if(currentState == null)
+            {
+                if(depth < automatonStringLength && currentChar == automatonString.charAt(depth)) continue;
+                
+                minimalBoundary = depth;
+                rscv = State.getRelevantSubwordCharacteristicVector(minimalBoundary, maxEditDistance, automatonString, currentChar);
+                parametricStateTransitionHashMap = diagonalTransitionHashMap;
+            }
+            else
+            {
+                minimalBoundary = currentState.getMinimalBoundary();
+                rscv = currentState.getRelevantSubwordCharacteristicVector(maxEditDistance, automatonString, currentChar);
+                parametricStateTransitionHashMap = transitionHashMap.get(parametricStateArray[depth]);
+            }
+            /////
+            
+            //Use rscv to get the parametric version of the transition's result State
+            ParametricState transitionParametricState = parametricStateTransitionHashMap.get(rscv);
 
-                    if(transitionParametricState != null)
-                    {
-                        //Use transitionParametricState to create the actual State that is the result of the transition
-                        State transitionState = transitionParametricState.createActualState(currentState.getMinimalBoundary() + transitionParametricState.getTransitionBoundaryOffset());
-                        
-                        String transitionPathString = (String)currentProcessingStepDataArray[0] + currentChar;
-                        
-                        //Push the resulting processing step on to the top of processingStepStack
-                        processingStepStack.push(createProcessingStepStackEntry(transitionPathString, transitionNode, transitionState, transitionParametricState));
+            //If the State has a valid transition on currentChar, make the processing step at its target the current one
+            if(transitionParametricState != null)
+            {
+                //Use transitionParametricState to create the actual State that is the result of the transition
+                State transitionState = transitionParametricState.createActualState(minimalBoundary + transitionParametricState.getTransitionBoundaryOffset());
+                
+                if(transitionPathCharArray != null) transitionPathCharArray[depth] = currentChar;
+                depth++;
+                
+                if(cursorArray[depth] == null) cursorArray[depth] = currentCursor.copy();
+                cursorArray[depth].setToOutgoingTransitionTarget(currentCursor, transitionIndex);
+                stateArray[depth] = transitionState;
+                parametricStateArray[depth] = transitionParametricState;
+                nextTransitionIndexArray[depth] = 0;
 
-                        //If both transitionNode and transitionState are "accepting", add the sequence of chars that lead to them to resultStringLinkedList
-                        if(MDAG.isAcceptNode(transitionNode) && isAcceptState(transitionState, automatonString.length(), maxEditDistance))
-                            resultStringLinkedList.add(transitionPathString);
-                    }
+                //If both the target node and transitionState are "accepting", count the sequence of chars that
+                //lead to them (adding it to resultStringLinkedList if necessary), ending the search if desired
+                if(cursorArray[depth].isAcceptNode() && isAcceptState(transitionState, automatonStringLength, maxEditDistance))
+                {
+                    matchCount++;
+                    if(resultStringLinkedList != null) resultStringLinkedList.add(new String(transitionPathCharArray, 0, depth));
+                    if(stopsAtFirstMatch) return matchCount;
                 }
+                /////
             }
             /////
         }
         /////
  
+        return matchCount;
+    }
+    
+    
+    
+    /**
+     * Searches a collection of Strings for those which are within a given edit distance from a particular String.
+     * 
+     * This version of fuzzy search uses a pre-computed map of transitions, and is the fastest method for max 
+     * edit distances less than or equal 2. Greater max edit distances require huge amounts of memory and 
+     * are not guaranteed to be faster than a non-automaton approach, so use in those cases is discouraged.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param dictionary            a FuzzySearchableDictionary containing the set of Strings to be processed against {@code automatonString}
+     * @return                      a LinkedList containing all the Strings in {@code dictionary} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     */
+    public static LinkedList<String> tableFuzzySearch(int maxEditDistance, String automatonString, FuzzySearchableDictionary dictionary)
+    {
+        //LinkedList which will contain Strings in dictionary that are within maxEditDistance of automatonString
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        
+        tableFuzzySearch(maxEditDistance, automatonString, dictionary, resultStringLinkedList, false);
         return resultStringLinkedList;
     }
+    
+    
+    
+    /**
+     * Determines if a collection of Strings contains one which is within a given edit distance from a particular String.
+     * 
+     * This method carries out the same traversal as {@link #tableFuzzySearch(int, String, MDAG)}, but ends it 
+     * as soon as a matching String is found and never builds the Strings along the traversed paths.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param mdag                  an MDAG containing the set of Strings to be processed against {@code automatonString}
+     * @return                      true if {@code mdag} contains a String that is at most {@code maxEditDistance}
+     *                              away from {@code automatonString}; false otherwise
+     */
+    public static boolean anyMatch(int maxEditDistance, String automatonString, MDAG mdag)
+    {
+        return anyMatch(maxEditDistance, automatonString, createFuzzySearchableDictionary(mdag));
+    }
+    
+    
+    
+    /**
+     * Determines if a collection of Strings contains one which is within a given edit distance from a particular String.
+     * 
+     * This method carries out the same traversal as {@link #tableFuzzySearch(int, String, FuzzySearchableDictionary)}, but 
+     * ends it as soon as a matching String is found and never builds the Strings along the traversed paths.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param dictionary            a FuzzySearchableDictionary containing the set of Strings to be processed against {@code automatonString}
+     * @return                      true if {@code dictionary} contains a String that is at most {@code maxEditDistance}
+     *                              away from {@code automatonString}; false otherwise
+     */
+    public static boolean anyMatch(int maxEditDistance, String automatonString, FuzzySearchableDictionary dictionary)
+    {
+        return (tableFuzzySearch(maxEditDistance, automatonString, dictionary, null, true) > 0);
+    }
+    
+    
+    
+    /**
+     * Counts the Strings in a collection which are within a given edit distance from a particular String.
+     * 
+     * This method carries out the same traversal as {@link #tableFuzzySearch(int, String, MDAG)}, 
+     * but never builds the Strings along the traversed paths.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param mdag                  an MDAG containing the set of Strings to be processed against {@code automatonString}
+     * @return                      an int of the number of Strings in {@code mdag} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     */
+    public static int countMatches(int maxEditDistance, String automatonString, MDAG mdag)
+    {
+        return countMatches(maxEditDistance, automatonString, createFuzzySearchableDictionary(mdag));
+    }
+    
+    
+    
+    /**
+     * Counts the Strings in a collection which are within a given edit distance from a particular String.
+     * 
+     * This method carries out the same traversal as {@link #tableFuzzySearch(int, String, FuzzySearchableDictionary)},
+     * but never builds the Strings along the traversed paths.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param dictionary            a FuzzySearchableDictionary containing the set of Strings to be processed against {@code automatonString}
+     * @return                      an int of the number of Strings in {@code dictionary} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     */
+    public static int countMatches(int maxEditDistance, String automatonString, FuzzySearchableDictionary dictionary)
+    {
+        return tableFuzzySearch(maxEditDistance, automatonString, dictionary, null, false);
+    }
 
+
+    
+    
+    /**
+     * Finds the index of the first String in a sorted range of an array that is greater than or equal to a given String.
+     * The search gallops forward from the start of the range, so Strings close to it are found quickly.
+     
+     * @param sortedStrArray        an array of Strings sorted in ascending order
+     * @param fromIndex             an int of the index in {@code sortedStrArray} that the range of interest starts at
+     * @param toIndex               an int of one past the index in {@code sortedStrArray} that the range of interest ends at
+     * @param str                   a String
+     * @return                      an int of the index of the first String in the range that is greater
+     *                              than or equal to {@code str} ({@code toIndex} if none exists)
+     */
+    private static int seekCeilingIndex(String[] sortedStrArray, int fromIndex, int toIndex, String str)
+    {
+        //Gallop forward from fromIndex until a String greater than or equal to str is passed (or the range is exhausted)
+        int low = fromIndex;
+        int stride = 1;
+        
+        while(low + stride < toIndex && sortedStrArray[low + stride].compareTo(str) < 0)
+        {
+            low += stride;
+            stride <<= 1;
+        }
+        
+        int high = Math.min(low + stride, toIndex);
+        /////
+        
+        //Binary search the range the gallop ended in
+        while(low < high)
+        {
+            int mid = (low + high) >>> 1;
+            
+            if(sortedStrArray[mid].compareTo(str) < 0) low = mid + 1;
+            else high = mid;
+        }
+        /////
+        
+        return low;
+    }
+    
+    
+    
+    /**
+     * Searches a sorted array of Strings for those which are within a given edit distance from a particular String.
+     * 
+     * This version of fuzzy search intersects a compiled Levenshtein automaton with the array: each String that the 
+     * automaton rejects is used to compute the smallest String the automaton could accept after it, and the search 
+     * seeks directly to that String. Strings that are skipped over are never scored, and no MDAG needs to be built.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param sortedStrArray        an array of Strings, sorted in ascending order, to be processed against {@code automatonString}
+     * @return                      a LinkedList containing all the Strings in {@code sortedStrArray} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     */
+    public static LinkedList<String> seekingFuzzySearch(int maxEditDistance, String automatonString, String[] sortedStrArray)
+    {
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        CompiledLevenshteinAutomaton automaton = new CompiledLevenshteinAutomaton(maxEditDistance, automatonString);
+        
+        //Loop through the Strings in sortedStrArray, adding each accepted String to resultStringLinkedList
+        //and seeking past each rejected String to the first String that could be accepted after it
+        int strCount = sortedStrArray.length;
+        int currentIndex = 0;
+        
+        while(currentIndex < strCount)
+        {
+            String currentString = sortedStrArray[currentIndex];
+            String nextAcceptedString = automaton.nextAcceptedString(currentString);
+            
+            if(nextAcceptedString == null) 
+                break;
+            else if(nextAcceptedString.equals(currentString))
+            {
+                resultStringLinkedList.add(currentString);
+                currentIndex++;
+            }
+            else
+                currentIndex = seekCeilingIndex(sortedStrArray, currentIndex + 1, strCount, nextAcceptedString);
+        }
+        /////
+        
+        return resultStringLinkedList;
+    }
+    
+    
+    
+    /**
+     * Searches a sorted file of Strings (one per line) for those which are within a given edit distance from a particular String.
+     * 
+     * This version of fuzzy search streams through the file, intersecting a compiled Levenshtein automaton with its lines
+     * in the manner of {@link #seekingFuzzySearch(int, String, String[])}. Lines that are less than the smallest String the 
+     * automaton could accept after the last rejected line are skipped with a single comparison instead of being scored.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param sortedStrFile         a File containing Strings, one per line and sorted in ascending order, 
+     *                              to be processed against {@code automatonString}
+     * @param charset               the Charset that the contents of {@code sortedStrFile} are encoded in
+     * @return                      a LinkedList containing all the Strings in {@code sortedStrFile} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     * @throws IOException          if {@code sortedStrFile} cannot be read
+     */
+    public static LinkedList<String> seekingFuzzySearch(int maxEditDistance, String automatonString, File sortedStrFile, Charset charset) throws IOException
+    {
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        CompiledLevenshteinAutomaton automaton = new CompiledLevenshteinAutomaton(maxEditDistance, automatonString);
+        
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(sortedStrFile), charset));
+        
+        try
+        {
+            //Loop through the lines in the file, scoring only those that are not less than seekString
+            String seekString = "";
+            String currentString;
+            
+            while(seekString != null && (currentString = bufferedReader.readLine()) != null)
+            {
+                if(currentString.compareTo(seekString) >= 0)
+                {
+                    seekString = automaton.nextAcceptedString(currentString);
+                    if(currentString.equals(seekString)) resultStringLinkedList.add(currentString);
+                }
+            }
+            /////
+        }
+        finally
+        {
+            bufferedReader.close();
+        }
+        
+        return resultStringLinkedList;
+    }
+    
+    
+    
+    /**
+     * Creates an array capable of holding every edit distance matrix row (see fillEditDistanceRow) 
+     * that a search for Strings within a given edit distance of a particular String may compute.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String of interest from {@code automatonString}
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      an array of int arrays, each with a cell for every prefix of {@code automatonString},
+     *                              with the first containing the row of the empty String
+     */
+    static int[][] createEditDistanceRowArray(int maxEditDistance, String automatonString)
+    {
+        //Every cell of the row of a prefix longer than (automatonString.length() + maxEditDistance) exceeds 
+        //maxEditDistance, so the rows of prefixes longer than the prefix one char longer than that are never computed
+        int maxDepth = automatonString.length() + maxEditDistance + 1;
+        int[][] editDistanceRowArray = new int[maxDepth + 1][automatonString.length() + 1];
+        /////
+        
+        //The row of the empty String contains the lengths of the prefixes of automatonString
+        for(int j = 0; j <= automatonString.length(); j++) editDistanceRowArray[0][j] = j;
+        
+        return editDistanceRowArray;
+    }
+    
+    
+    
+    /**
+     * Fills a row of an edit distance matrix between a String and the prefixes of a dictionary, 
+     * in which row i contains the edit distances between a dictionary prefix of length i and the prefixes of the String.
+     
+     * @param automatonString           the String that all edit-distance calculations are carried out in relation to
+     * @param editDistanceRowArray      an array of int arrays, each with a cell for every prefix of {@code automatonString},
+     *                                  containing the rows of the prefixes of the dictionary prefix of interest
+     * @param rowIndex                  an int of the index in {@code editDistanceRowArray} of the row to be filled (also
+     *                                  the length of the dictionary prefix of interest); must be greater than 0
+     * @param letter                    a char of the last char of the dictionary prefix of interest
+     * @param previousLetter            a char of the second to last char of the dictionary prefix of interest (ignored if {@code rowIndex} is 1)
+     * @return                          an int of the smallest edit distance in the filled row
+     */
+    static int fillEditDistanceRow(String automatonString, int[][] editDistanceRowArray, int rowIndex, char letter, char previousLetter)
+    {
+        int automatonStringLength = automatonString.length();
+        
+        int[] grandparentRow = (rowIndex > 1 ? editDistanceRowArray[rowIndex - 2] : null);
+        int[] parentRow = editDistanceRowArray[rowIndex - 1];
+        int[] currentRow = editDistanceRowArray[rowIndex];
+        
+        //The edit distance between the dictionary prefix and the empty String is the length of the dictionary prefix
+        currentRow[0] = rowIndex;
+        int minRowValue = rowIndex;
+        
+        for(int j = 1; j <= automatonStringLength; j++)
+        {
+            char automatonChar = automatonString.charAt(j - 1);
+            int curCharEditDistance = (letter == automatonChar ? 0 : 1);
+            
+            //Determine the smallest cost among those associated with a deletion, insertion and substitution
+            int minEditOperationCost = Math.min(parentRow[j] + 1, currentRow[j - 1] + 1);
+            minEditOperationCost = Math.min(minEditOperationCost, parentRow[j - 1] + curCharEditDistance);
+            /////
+            
+            if(grandparentRow != null && j > 1 && letter == automatonString.charAt(j - 2) && previousLetter == automatonChar)
+                minEditOperationCost = Math.min(minEditOperationCost, grandparentRow[j - 2] + curCharEditDistance);
+            
+            currentRow[j] = minEditOperationCost;
+            minRowValue = Math.min(minRowValue, minEditOperationCost);
+        }
+        
+        return minRowValue;
+    }
+    
+    
+    
+    /**
+     * Searches an MDAG for Strings which are within a given edit distance from a particular String using dynamic programming.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the MDAG with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param mdag                  an MDAG containing the set of Strings to be processed against {@code automatonString}
+     * @return                      a LinkedList containing all the Strings in {@code mdag} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     */
+    public static LinkedList<String> dynamicProgrammingFuzzySearch(int maxEditDistance, String automatonString, MDAG mdag)
+    {
+        return dynamicProgrammingFuzzySearch(maxEditDistance, automatonString, createFuzzySearchableDictionary(mdag));
+    }
+    
+    
+    
+    /**
+     * Searches a dictionary for Strings which are within a given edit distance from a particular String using dynamic programming.
+     * 
+     * The dictionary is traversed depth-first, with one row of the edit distance matrix computed per traversed
+     * prefix, from the rows of the prefix's two longest proper prefixes. Rows are kept in an array preallocated per
+     * depth, and the subtree of a prefix is pruned as soon as every cell of its row exceeds {@code maxEditDistance}. 
+     * Unlike the automaton based searches, this search requires no transition tables, so it can be used with any 
+     * edit distance, and its memory usage is bounded by the lengths of the matching Strings.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the dictionary with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @param dictionary            a FuzzySearchableDictionary containing the set of Strings to be processed against {@code automatonString}
+     * @return                      a LinkedList containing all the Strings in {@code dictionary} that are at most
+     *                              {@code maxEditDistance} away from {@code automatonString}
+     */
+    public static LinkedList<String> dynamicProgrammingFuzzySearch(int maxEditDistance, String automatonString, FuzzySearchableDictionary dictionary)
+    {
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        
+        int[][] editDistanceRowArray = createEditDistanceRowArray(maxEditDistance, automatonString);
+        char[] prefixCharArray = new char[editDistanceRowArray.length - 1];
+        
+        //Array which will contain, for each depth, the DictionaryCursor that is repositioned at each node processed at that depth
+        DictionaryCursor[] cursorArray = new DictionaryCursor[editDistanceRowArray.length];
+        cursorArray[0] = dictionary.getSourceCursor();
+        
+        dynamicProgrammingFuzzySearch(maxEditDistance, automatonString, cursorArray, 0, editDistanceRowArray, prefixCharArray, resultStringLinkedList);
+        
+        return resultStringLinkedList;
+    }
+    
+    
+    
+    /**
+     * Searches the Strings in a dictionary that have a given prefix for those 
+     * which are within a given edit distance from a particular String using dynamic programming.
+     
+     * @param maxEditDistance           an int denoting the maximum amount of edit operations that can separate
+     *                                  a String in the dictionary with the String of interest
+     * @param automatonString           the String that all edit-distance calculations are to be carried out in relation to
+     * @param cursorArray               an array of DictionaryCursors whose element at {@code depth} is positioned at the end of the dictionary
+     *                                  prefix of interest, and whose subsequent elements (if non-null) can be repositioned at its extensions
+     * @param depth                     an int of the length of the dictionary prefix of interest
+     * @param editDistanceRowArray      an array of int arrays containing the rows of the dictionary prefix of interest
+     *                                  and its prefixes, and capable of holding those of its extensions
+     * @param prefixCharArray           a char array containing the dictionary prefix of interest in its first {@code depth} elements
+     * @param resultStringLinkedList    the LinkedList that matching Strings are to be added to
+     */
+    private static void dynamicProgrammingFuzzySearch(int maxEditDistance, String automatonString, DictionaryCursor[] cursorArray, int depth, 
+                                                        int[][] editDistanceRowArray, char[] prefixCharArray, LinkedList<String> resultStringLinkedList)
+    {
+        DictionaryCursor cursor = cursorArray[depth];
+        
+        if(cursor.isAcceptNode() && editDistanceRowArray[depth][automatonString.length()] <= maxEditDistance)
+            resultStringLinkedList.add(new String(prefixCharArray, 0, depth));
+        
+        //Extend the dictionary prefix of interest with each char that follows it, recursively 
+        //processing each extension whose row contains a cell that does not exceed maxEditDistance
+        int transitionCount = cursor.getOutgoingTransitionCount();
+        for(int i = 0; i < transitionCount; i++)
+        {
+            char letter = cursor.getOutgoingTransitionLabel(i);
+            prefixCharArray[depth] = letter;
+            
+            int minRowValue = fillEditDistanceRow(automatonString, editDistanceRowArray, depth + 1, letter, (depth > 0 ? prefixCharArray[depth - 1] : '\0'));
+            
+            if(minRowValue <= maxEditDistance)
+            {
+                if(cursorArray[depth + 1] == null) cursorArray[depth + 1] = cursor.copy();
+                cursorArray[depth + 1].setToOutgoingTransitionTarget(cursor, i);
+                
+                dynamicProgrammingFuzzySearch(maxEditDistance, automatonString, cursorArray, depth + 1, editDistanceRowArray, prefixCharArray, resultStringLinkedList);
+            }
+        }
+        /////
+    }
+    
+    
+    
+    /**
+     * Searches a collection of Strings for those which are within a given edit distance from a particular String,
+     * sorting the Strings so that the computations associated with prefixes shared by consecutive Strings can be reused.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @param strCollection         a Collection containing the set of Strings to be processed against {@code pertinentStr}
+     * @return                      a LinkedList containing, in lexicographical order, all the Strings in {@code strCollection} 
+     *                              that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public static LinkedList<String> incrementalFuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, Collection<String> strCollection)
+    {
+        String[] sortedStrArray = strCollection.toArray(new String[strCollection.size()]);
+        Arrays.sort(sortedStrArray);
+        
+        return incrementalFuzzySearchNonAutomaton(maxEditDistance, pertinentStr, sortedStrArray);
+    }
+    
+    
+    
+    /**
+     * Searches a sorted array of Strings for those which are within a given edit distance from a particular String.
+     * 
+     * The edit distance matrix rows (see fillEditDistanceRow) of each String are computed only for the chars following
+     * the prefix it shares with the String processed before it, and once the row of a prefix exceeds {@code maxEditDistance}, 
+     * every String in the contiguous run of Strings with that prefix is skipped.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched array with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @param sortedStrArray        a lexicographically sorted array containing the Strings to be processed against {@code pertinentStr}
+     * @return                      a LinkedList containing, in lexicographical order, all the Strings in {@code sortedStrArray} 
+     *                              that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public static LinkedList<String> incrementalFuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, String[] sortedStrArray)
+    {
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        int[][] editDistanceRowArray = createEditDistanceRowArray(maxEditDistance, pertinentStr);
+        
+        incrementalFuzzySearch(maxEditDistance, pertinentStr, sortedStrArray, 0, sortedStrArray.length, editDistanceRowArray, resultStringLinkedList);
+        
+        return resultStringLinkedList;
+    }
+    
+    
+    
+    /**
+     * Searches a range of a sorted array of Strings for those which are within a given edit distance from a particular String,
+     * reusing the edit distance matrix rows of the prefixes shared by consecutive Strings.
+     
+     * @param maxEditDistance           an int denoting the maximum amount of edit operations that can separate
+     *                                  a String in the to-be-searched range with the String of interest
+     * @param pertinentStr              the String that all edit-distance calculations are to be carried out in relation to
+     * @param sortedStrArray            a lexicographically sorted String array
+     * @param fromIndex                 an int of the index of the first String in the range (inclusive)
+     * @param toIndex                   an int of the index of the last String in the range (exclusive)
+     * @param editDistanceRowArray      an array created by createEditDistanceRowArray(maxEditDistance, pertinentStr) 
+     *                                  and containing the row of the empty String
+     * @param resultStrCollection       the Collection that matching Strings are to be added to
+     */
+    static void incrementalFuzzySearch(int maxEditDistance, String pertinentStr, String[] sortedStrArray, int fromIndex, int toIndex, 
+                                        int[][] editDistanceRowArray, Collection<String> resultStrCollection)
+    {
+        incrementalFuzzySearch(maxEditDistance, pertinentStr, sortedStrArray, null, null, fromIndex, toIndex, editDistanceRowArray, resultStrCollection);
+    }
+    
+    
+    
+    /**
+     * Searches a range of a sorted array of Strings for those which are within a given edit distance from a particular String,
+     * reusing the edit distance matrix rows of the prefixes shared by consecutive Strings, and skipping the 
+     * Strings whose precomputed signatures show they are too far from the String of interest.
+     
+     * @param maxEditDistance               an int denoting the maximum amount of edit operations that can separate
+     *                                      a String in the to-be-searched range with the String of interest
+     * @param pertinentStr                  the String that all edit-distance calculations are to be carried out in relation to
+     * @param sortedStrArray                a lexicographically sorted String array
+     * @param presenceSignatureArray        a long array whose element i is the presence signature of {@code sortedStrArray[i]},
+     *                                      or null if the Strings are not to be filtered by their signatures
+     * @param histogramSignatureArray       a long array whose element i is the histogram signature of {@code sortedStrArray[i]},
+     *                                      or null if the Strings are not to be filtered by their signatures
+     * @param fromIndex                     an int of the index of the first String in the range (inclusive)
+     * @param toIndex                       an int of the index of the last String in the range (exclusive)
+     * @param editDistanceRowArray          an array created by createEditDistanceRowArray(maxEditDistance, pertinentStr) 
+     *                                      and containing the row of the empty String
+     * @param resultStrCollection           the Collection that matching Strings are to be added to
+     */
+    static void incrementalFuzzySearch(int maxEditDistance, String pertinentStr, String[] sortedStrArray, long[] presenceSignatureArray, 
+                                        long[] histogramSignatureArray, int fromIndex, int toIndex, int[][] editDistanceRowArray, Collection<String> resultStrCollection)
+    {
+        int pertinentStrLength = pertinentStr.length();
+        boolean isSignatureFiltered = (presenceSignatureArray != null && histogramSignatureArray != null);
+        long pertinentPresenceSignature = (isSignatureFiltered ? EditDistanceSignature.computePresenceSignature(pertinentStr) : 0);
+        long pertinentHistogramSignature = (isSignatureFiltered ? EditDistanceSignature.computeHistogramSignature(pertinentStr) : 0);
+        
+        //The last processed String, and the number of its leading chars whose rows are in editDistanceRowArray
+        String previousStr = "";
+        int computedRowCount = 0;
+        /////
+        
+        int i = fromIndex;
+        while(i < toIndex)
+        {
+            //Skip Strings ruled out by their signatures. The rows in editDistanceRowArray remain those of previousStr
+            if(isSignatureFiltered && EditDistanceSignature.computeLowerBound(pertinentPresenceSignature, pertinentHistogramSignature, 
+                                            presenceSignatureArray[i], histogramSignatureArray[i]) > maxEditDistance)
+            {
+                i++;
+                continue;
+            }
+            /////
+            
+            String currentStr = sortedStrArray[i];
+            int currentStrLength = currentStr.length();
+            
+            //Determine the length of the prefix currentStr shares with previousStr whose rows have already been computed
+            int depth = 0;
+            int maxSharedDepth = Math.min(computedRowCount, currentStrLength);
+            while(depth < maxSharedDepth && currentStr.charAt(depth) == previousStr.charAt(depth)) depth++;
+            /////
+            
+            //Compute the rows of the remaining chars of currentStr, stopping if the row of one of them exceeds maxEditDistance
+            boolean isPrefixExhausted = false;
+            while(depth < currentStrLength && !isPrefixExhausted)
+            {
+                depth++;
+                int minRowValue = fillEditDistanceRow(pertinentStr, editDistanceRowArray, depth, currentStr.charAt(depth - 1), (depth > 1 ? currentStr.charAt(depth - 2) : '\0'));
+                isPrefixExhausted = (minRowValue > maxEditDistance);
+            }
+            /////
+            
+            previousStr = currentStr;
+            computedRowCount = depth;
+            
+            if(isPrefixExhausted)
+            {
+                //No String that begins with the exhausted prefix can be within maxEditDistance of pertinentStr, 
+                //so skip past the (contiguous) run of Strings that begin with it
+                i = findPrefixRunEnd(sortedStrArray, i + 1, toIndex, currentStr, depth);
+            }
+            else
+            {
+                if(editDistanceRowArray[depth][pertinentStrLength] <= maxEditDistance) resultStrCollection.add(currentStr);
+                i++;
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * Finds the end of a run of Strings in a sorted array that begin with a given prefix.
+     
+     * @param sortedStrArray        a lexicographically sorted String array
+     * @param fromIndex             an int of the index of the first String in the range to be searched (inclusive),
+     *                              every String before which (within the run) begins with the prefix of interest
+     * @param toIndex               an int of the index of the last String in the range to be searched (exclusive)
+     * @param prefixSourceStr       a String that begins with the prefix of interest
+     * @param prefixLength          an int of the length of the prefix of interest
+     * @return                      an int of the index of the first String in the range that 
+     *                              does not begin with the prefix, or {@code toIndex} if there is none
+     */
+    private static int findPrefixRunEnd(String[] sortedStrArray, int fromIndex, int toIndex, String prefixSourceStr, int prefixLength)
+    {
+        int low = fromIndex;
+        int high = toIndex;
+        
+        while(low < high)
+        {
+            int mid = (low + high) >>> 1;
+            
+            if(sortedStrArray[mid].regionMatches(0, prefixSourceStr, 0, prefixLength)) low = mid + 1;
+            else high = mid;
+        }
+        
+        return low;
+    }
+    
     
     
     /**
@@ -692,12 +1425,17 @@ public class LevenshteinAutomaton
     public static LinkedList<String> fuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, Collection<String> strCollection)
     {
         LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        
+        //Preprocess pertinentStr once, leaving only the work related to each String in strCollection to be done in the loop
+        DistanceKernel distanceKernel = new DistanceKernel(pertinentStr);
+        int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+        /////
 
         //Loop through the Strings in strCollection, computing the edit distance between each and
         //pertinentStr and adding those to resultStringLinkedList with a distance <= maxEditDistance
         for(String currentString : strCollection)
         {
-            if(computeEditDistance(pertinentStr, currentString) <= maxEditDistance)
+            if(distanceKernel.distance(currentString, maxEditDistance, histogramScratchArray) <= maxEditDistance)
                 resultStringLinkedList.add(currentString);
         }
         /////
@@ -707,6 +1445,80 @@ public class LevenshteinAutomaton
     
     
     
+    /**
+     * Searches a collection of Strings in parallel, using the common fork/join pool, 
+     * for those which are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @param strCollection         a Collection containing the set of Strings to be processed against {@code pertinentStr}
+     * @return                      an ArrayList containing, in the iteration order of {@code strCollection}, all the 
+     *                              Strings in it that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public static ArrayList<String> parallelFuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, Collection<String> strCollection)
+    {
+        return parallelFuzzySearchNonAutomaton(maxEditDistance, pertinentStr, strCollection, ForkJoinPool.commonPool());
+    }
+    
+    
+    
+    /**
+     * Searches a collection of Strings in parallel for those which are within a given edit distance from a particular String.
+     * The collection is split in to chunks by its Spliterator, each of which is searched by a task in {@code forkJoinPool}, 
+     * and the per-chunk results are concatenated in order.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched collection with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @param strCollection         a Collection containing the set of Strings to be processed against {@code pertinentStr}
+     * @param forkJoinPool          the ForkJoinPool that the search is to be carried out in
+     * @return                      an ArrayList containing, in the iteration order of {@code strCollection}, all the 
+     *                              Strings in it that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public static ArrayList<String> parallelFuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, Collection<String> strCollection, ForkJoinPool forkJoinPool)
+    {
+        return forkJoinPool.invoke(new FuzzySearchTask(maxEditDistance, new DistanceKernel(pertinentStr), strCollection.spliterator()));
+    }
+    
+    
+    
+    /**
+     * Searches an array of Strings in parallel, using the common fork/join pool, 
+     * for those which are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched array with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @param strArray              an array containing the Strings to be processed against {@code pertinentStr}
+     * @return                      an ArrayList containing, in array order, all the Strings in 
+     *                              {@code strArray} that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public static ArrayList<String> parallelFuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, String[] strArray)
+    {
+        return parallelFuzzySearchNonAutomaton(maxEditDistance, pertinentStr, strArray, ForkJoinPool.commonPool());
+    }
+    
+    
+    
+    /**
+     * Searches an array of Strings in parallel for those which are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the to-be-searched array with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @param strArray              an array containing the Strings to be processed against {@code pertinentStr}
+     * @param forkJoinPool          the ForkJoinPool that the search is to be carried out in
+     * @return                      an ArrayList containing, in array order, all the Strings in 
+     *                              {@code strArray} that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public static ArrayList<String> parallelFuzzySearchNonAutomaton(int maxEditDistance, String pertinentStr, String[] strArray, ForkJoinPool forkJoinPool)
+    {
+        return forkJoinPool.invoke(new FuzzySearchTask(maxEditDistance, new DistanceKernel(pertinentStr), Arrays.spliterator(strArray)));
+    }
+    
+    
+    
     /**
      * Determines if a Position is accepting.
      
@@ -0,0 +1,210 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import com.BoxOfC.MDAG.MDAG;
+import com.BoxOfC.MDAG.MDAGNode;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+
+/**
+ * A {@link FuzzySearchableDictionary} backed by a {@link com.BoxOfC.MDAG.MDAG} that has not been simplified.
+ * 
+ * The backing MDAG should not be modified while a search on this dictionary is being carried out.
+ 
+ * @author Kevin
+ */
+public final class MDAGDictionary implements FuzzySearchableDictionary
+{
+    //The MDAGNode that all transition paths in the backing MDAG start from
+    private final MDAGNode sourceNode;
+    
+    
+    
+    /**
+     * Constructs an MDAGDictionary from an MDAG that has not been simplified.
+     
+     * @param mdag      an MDAG that has not been simplified
+     */
+    public MDAGDictionary(MDAG mdag)
+    {
+        if(!(mdag.getSourceNode() instanceof MDAGNode))
+            throw new IllegalArgumentException("mdag has been simplified; use a SimpleMDAGDictionary instead");
+        
+        sourceNode = (MDAGNode)mdag.getSourceNode();
+    }
+    
+    
+    
+    @Override
+    public DictionaryCursor getSourceCursor()
+    {
+        return new Cursor(sourceNode);
+    }
+    
+    
+    
+    /**
+     * A DictionaryCursor positioned at an MDAGNode.
+     */
+    private static final class Cursor implements DictionaryCursor
+    {
+        //The MDAGNode this Cursor is positioned at
+        private MDAGNode node;
+        
+        //Arrays whose beginnings contain the labels and target nodes of node's outgoing transitions, in ascending order 
+        //of label. These are lazily copied out of node's outgoing transition TreeMap, and are reused (growing only when
+        //necessary) each time this Cursor is repositioned
+        private char[] outgoingTransitionLabelArray = new char[0];
+        private MDAGNode[] outgoingTransitionTargetArray = new MDAGNode[0];
+        /////
+        
+        //The boolean denoting whether outgoingTransitionLabelArray and outgoingTransitionTargetArray hold the transitions of node
+        private boolean outgoingTransitionsAreLoaded;
+        
+        
+        
+        private Cursor(MDAGNode node)
+        {
+            this.node = node;
+        }
+        
+        
+        
+        /**
+         * Positions this Cursor at a given MDAGNode.
+         
+         * @param node      an MDAGNode
+         */
+        private void setNode(MDAGNode node)
+        {
+            this.node = node;
+            outgoingTransitionsAreLoaded = false;
+        }
+        
+        
+        
+        /**
+         * Copies the outgoing transitions of this Cursor's node in to 
+         * outgoingTransitionLabelArray and outgoingTransitionTargetArray.
+         */
+        private void loadOutgoingTransitions()
+        {
+            TreeMap<Character, MDAGNode> outgoingTransitionTreeMap = node.getOutgoingTransitions();
+            int outgoingTransitionCount = outgoingTransitionTreeMap.size();
+            
+            if(outgoingTransitionCount > outgoingTransitionLabelArray.length)
+            {
+                outgoingTransitionLabelArray = new char[outgoingTransitionCount];
+                outgoingTransitionTargetArray = new MDAGNode[outgoingTransitionCount];
+            }
+            
+            int counter = 0;
+            for(Map.Entry<Character, MDAGNode> transitionEntry : outgoingTransitionTreeMap.entrySet())
+            {
+                outgoingTransitionLabelArray[counter] = transitionEntry.getKey();
+                outgoingTransitionTargetArray[counter++] = transitionEntry.getValue();
+            }
+            
+            outgoingTransitionsAreLoaded = true;
+        }
+        
+        
+        
+        @Override
+        public boolean isAcceptNode()
+        {
+            return node.isAcceptNode();
+        }
+
+        
+        
+        @Override
+        public int getOutgoingTransitionCount()
+        {
+            return node.getOutgoingTransitionCount();
+        }
+
+        
+        
+        @Override
+        public char getOutgoingTransitionLabel(int transitionIndex)
+        {
+            if(!outgoingTransitionsAreLoaded) loadOutgoingTransitions();
+            return outgoingTransitionLabelArray[transitionIndex];
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex)
+        {
+            if(!outgoingTransitionsAreLoaded) loadOutgoingTransitions();
+            return new Cursor(outgoingTransitionTargetArray[transitionIndex]);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor transition(char letter)
+        {
+            MDAGNode transitionNode = node.transition(letter);
+            return (transitionNode != null ? new Cursor(transitionNode) : null);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor copy()
+        {
+            return new Cursor(node);
+        }
+        
+        
+        
+        @Override
+        public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex)
+        {
+            Cursor parent = (Cursor)parentCursor;
+            if(!parent.outgoingTransitionsAreLoaded) parent.loadOutgoingTransitions();
+            
+            setNode(parent.outgoingTransitionTargetArray[transitionIndex]);
+        }
+        
+        
+        
+        @Override
+        public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter)
+        {
+            MDAGNode transitionNode = ((Cursor)parentCursor).node.transition(letter);
+            if(transitionNode == null) return false;
+            
+            setNode(transitionNode);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,487 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+
+
+/**
+ * An immutable {@link FuzzySearchableDictionary} whose packed DAWG (see {@link PackedDAWGDictionary}) is read directly 
+ * from a memory-mapped file. Nothing is deserialized when a file is opened (its graph is only checked for consistency, 
+ * in a single pass over its node and transition target sections), so heap usage does not depend on the size of the 
+ * dictionary, and the pages of a file are shared by all the processes that map it.
+ * 
+ * Files have the following layout (all values big-endian):
+ * 
+ * <pre>
+ *  offset 0        int     magic number (0x44415747, "DAWG")
+ *  offset 4        int     format version (1)
+ *  offset 8        long    number of Strings
+ *  offset 16       int     number of nodes (N)
+ *  offset 20       int     number of transitions (T)
+ *  offset 24       int     index of the source node
+ *  offset 28       int     reserved (0)
+ *  offset 32       long[ceil(N / 64)]      accept node bit set (bit i % 64 of element i / 64 is set if node i is an accept node)
+ *                  int[N + 1]              index of the first transition of each node, followed by T
+ *                  int[T]                  target node of each transition
+ *                  char[T]                 label of each transition
+ * </pre>
+ 
+ * @author Kevin
+ */
+public final class MappedDAWGDictionary implements FuzzySearchableDictionary
+{
+    //The magic number that files of this format begin with, and the version of the format written by this class
+    static final int MAGIC_NUMBER = 0x44415747;
+    static final int FORMAT_VERSION = 1;
+    /////
+    
+    //The number of bytes in the header of the format
+    static final int HEADER_SIZE = 32;
+    
+    //Buffers containing the label and target node of each transition
+    private final CharBuffer transitionLabelBuffer;
+    private final IntBuffer transitionTargetBuffer;
+    /////
+    
+    //Buffer whose element i contains the index of the first transition of node i
+    private final IntBuffer nodeTransitionStartBuffer;
+    
+    //Bit set denoting which of the nodes are accept nodes
+    private final LongBuffer acceptNodeBitBuffer;
+    
+    //The index of the node that all transition paths start from
+    private final int sourceNode;
+    
+    //The number of Strings and nodes in this dictionary
+    private final long stringCount;
+    private final int nodeCount;
+    /////
+    
+    
+    
+    /**
+     * Constructs a MappedDAWGDictionary by mapping a file written by {@link PackedDAWGDictionary#write(File)}
+     * or {@link PackedDAWGBuilder#write(File)}. The file should not be modified while the dictionary is in use.
+     
+     * @param file              a File containing a dictionary in the format described above
+     * @throws IOException      if {@code file} cannot be mapped, is not a dictionary of a supported format version,
+     *                          or contains a graph whose transitions lie outside of the file or lead to nonexistent nodes
+     */
+    public MappedDAWGDictionary(File file) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        
+        try
+        {
+            FileChannel fileChannel = randomAccessFile.getChannel();
+            long fileSize = fileChannel.size();
+            if(fileSize < HEADER_SIZE) throw new IOException(file + " is not a DAWG dictionary file");
+            
+            //Read and validate the header
+            ByteBuffer headerBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            
+            if(headerBuffer.getInt(0) != MAGIC_NUMBER) 
+                throw new IOException(file + " is not a DAWG dictionary file");
+            if(headerBuffer.getInt(4) != FORMAT_VERSION) 
+                throw new IOException(file + " has unsupported format version " + headerBuffer.getInt(4));
+            
+            stringCount = headerBuffer.getLong(8);
+            nodeCount = headerBuffer.getInt(16);
+            int transitionCount = headerBuffer.getInt(20);
+            sourceNode = headerBuffer.getInt(24);
+            
+            if(nodeCount < 1 || transitionCount < 0 || sourceNode < 0 || sourceNode >= nodeCount || fileSize != computeFileSize(nodeCount, transitionCount))
+                throw new IOException(file + " is corrupt");
+            /////
+            
+            //Map each section (as a separate mapping, so that the size of each rather than of the file is limited to 2GB)
+            long sectionPosition = HEADER_SIZE;
+            
+            long acceptNodeSectionSize = 8L * ((nodeCount + 63) >>> 6);
+            acceptNodeBitBuffer = mapSection(fileChannel, sectionPosition, acceptNodeSectionSize).asLongBuffer();
+            sectionPosition += acceptNodeSectionSize;
+            
+            long nodeSectionSize = 4L * (nodeCount + 1);
+            nodeTransitionStartBuffer = mapSection(fileChannel, sectionPosition, nodeSectionSize).asIntBuffer();
+            sectionPosition += nodeSectionSize;
+            
+            transitionTargetBuffer = mapSection(fileChannel, sectionPosition, 4L * transitionCount).asIntBuffer();
+            sectionPosition += 4L * transitionCount;
+            
+            transitionLabelBuffer = mapSection(fileChannel, sectionPosition, 2L * transitionCount).asCharBuffer();
+            /////
+            
+            if(!isGraphConsistent(nodeTransitionStartBuffer, transitionTargetBuffer, nodeCount, transitionCount))
+                throw new IOException(file + " is corrupt");
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+    
+    
+    
+    /**
+     * Computes the size of a dictionary file.
+     
+     * @param nodeCount             an int of the number of nodes in the dictionary's graph
+     * @param transitionCount       an int of the number of transitions in the dictionary's graph
+     * @return                      a long of the number of bytes in a file containing the dictionary
+     */
+    private static long computeFileSize(int nodeCount, int transitionCount)
+    {
+        return HEADER_SIZE + 8L * ((nodeCount + 63) >>> 6) + 4L * (nodeCount + 1) + 6L * transitionCount;
+    }
+    
+    
+    
+    /**
+     * Determines whether the node and transition target sections of a dictionary file describe a graph that can be
+     * safely traversed, that is, one whose nodes own consecutive, non-overlapping ranges of transitions which together 
+     * cover all of the transitions, and whose transitions all lead to existing nodes.
+     
+     * @param nodeTransitionStartBuffer     an IntBuffer containing the node section of a dictionary file
+     * @param transitionTargetBuffer        an IntBuffer containing the transition target section of a dictionary file
+     * @param nodeCount                     an int of the number of nodes in the dictionary's graph
+     * @param transitionCount               an int of the number of transitions in the dictionary's graph
+     * @return                              true if the graph described by the sections can be safely traversed, false otherwise
+     */
+    private static boolean isGraphConsistent(IntBuffer nodeTransitionStartBuffer, IntBuffer transitionTargetBuffer, int nodeCount, int transitionCount)
+    {
+        if(nodeTransitionStartBuffer.get(0) != 0 || nodeTransitionStartBuffer.get(nodeCount) != transitionCount)
+            return false;
+        
+        for(int i = 0; i < nodeCount; i++)
+        {
+            if(nodeTransitionStartBuffer.get(i) > nodeTransitionStartBuffer.get(i + 1))
+                return false;
+        }
+        
+        for(int i = 0; i < transitionCount; i++)
+        {
+            int targetNode = transitionTargetBuffer.get(i);
+            if(targetNode < 0 || targetNode >= nodeCount) return false;
+        }
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * Maps a section of a dictionary file in to memory.
+     
+     * @param fileChannel       the FileChannel of a dictionary file
+     * @param position          a long of the position in the file that the section starts at
+     * @param size              a long of the number of bytes in the section
+     * @return                  a read-only ByteBuffer containing the section
+     * @throws IOException      if the section cannot be mapped
+     */
+    private static ByteBuffer mapSection(FileChannel fileChannel, long position, long size) throws IOException
+    {
+        if(size > Integer.MAX_VALUE) throw new IOException("A section of " + size + " bytes is too large to be mapped");
+        
+        return fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+    
+    
+    
+    /**
+     * Writes a packed DAWG to a file in the format described above.
+     
+     * @param file                          the File to write the dictionary to
+     * @param transitionLabelArray          a char array whose first {@code transitionCount} elements contain the label of each transition
+     * @param transitionTargetArray         an int array whose first {@code transitionCount} elements contain the target node of each transition
+     * @param transitionCount               an int of the number of transitions in the dictionary's graph
+     * @param nodeTransitionStartArray      an int array whose first {@code nodeCount} elements contain the index of 
+     *                                      the first transition of each node, and whose next element is {@code transitionCount}
+     * @param acceptNodeBitArray            a long array containing the accept node bit set
+     * @param nodeCount                     an int of the number of nodes in the dictionary's graph
+     * @param sourceNode                    an int of the index of the source node
+     * @param stringCount                   a long of the number of Strings in the dictionary
+     * @throws IOException                  if an I/O error occurs while writing to {@code file}
+     */
+    static void write(File file, char[] transitionLabelArray, int[] transitionTargetArray, int transitionCount, int[] nodeTransitionStartArray, 
+                        long[] acceptNodeBitArray, int nodeCount, int sourceNode, long stringCount) throws IOException
+    {
+        DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+        
+        try
+        {
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            dataOutputStream.writeInt(FORMAT_VERSION);
+            dataOutputStream.writeLong(stringCount);
+            dataOutputStream.writeInt(nodeCount);
+            dataOutputStream.writeInt(transitionCount);
+            dataOutputStream.writeInt(sourceNode);
+            dataOutputStream.writeInt(0);
+            
+            for(int i = 0; i < ((nodeCount + 63) >>> 6); i++) dataOutputStream.writeLong(acceptNodeBitArray[i]);
+            for(int i = 0; i <= nodeCount; i++) dataOutputStream.writeInt(nodeTransitionStartArray[i]);
+            for(int i = 0; i < transitionCount; i++) dataOutputStream.writeInt(transitionTargetArray[i]);
+            for(int i = 0; i < transitionCount; i++) dataOutputStream.writeChar(transitionLabelArray[i]);
+        }
+        finally
+        {
+            dataOutputStream.close();
+        }
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this dictionary.
+     
+     * @return      a long of the number of Strings in this dictionary
+     */
+    public long getStringCount()
+    {
+        return stringCount;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of nodes in this dictionary's graph.
+     
+     * @return      an int of the number of nodes in this dictionary's graph
+     */
+    public int getNodeCount()
+    {
+        return nodeCount;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of transitions in this dictionary's graph.
+     
+     * @return      an int of the number of transitions in this dictionary's graph
+     */
+    public int getTransitionCount()
+    {
+        return transitionLabelBuffer.capacity();
+    }
+    
+    
+    
+    /**
+     * Determines if a String is contained in this MappedDAWGDictionary.
+     
+     * @param str       a String
+     * @return          true if {@code str} is in this dictionary; false otherwise
+     */
+    public boolean contains(String str)
+    {
+        int currentNode = sourceNode;
+        
+        int strLength = str.length();
+        for(int i = 0; i < strLength && currentNode != -1; i++)
+        {
+            int transitionIndex = findTransition(currentNode, str.charAt(i));
+            currentNode = (transitionIndex != -1 ? transitionTargetBuffer.get(transitionIndex) : -1);
+        }
+        
+        return (currentNode != -1 && isAcceptNode(currentNode));
+    }
+    
+    
+    
+    /**
+     * Determines if a node is an accept node.
+     
+     * @param node      an int of the index of a node
+     * @return          true if {@code node} is an accept node; false otherwise
+     */
+    private boolean isAcceptNode(int node)
+    {
+        return ((acceptNodeBitBuffer.get(node >>> 6) & (1L << node)) != 0);
+    }
+    
+    
+    
+    /**
+     * Finds the outgoing transition of a node that is labeled by a given char.
+     
+     * @param node          an int of the index of a node
+     * @param letter        a char
+     * @return              an int of the index of the transition of {@code node} labeled by {@code letter}, or -1 if none exists
+     */
+    private int findTransition(int node, char letter)
+    {
+        int transitionStart = nodeTransitionStartBuffer.get(node);
+        int transitionEnd = nodeTransitionStartBuffer.get(node + 1);
+        if(transitionStart == transitionEnd) return -1;
+        
+        int firstLabel = transitionLabelBuffer.get(transitionStart);
+        
+        if(transitionLabelBuffer.get(transitionEnd - 1) - firstLabel == transitionEnd - transitionStart - 1)
+        {
+            //The labels form a contiguous range, so the transition (if it exists) is at an offset of (letter - firstLabel)
+            int offset = letter - firstLabel;
+            return (offset >= 0 && offset < transitionEnd - transitionStart ? transitionStart + offset : -1);
+        }
+        else
+        {
+            int low = transitionStart;
+            int high = transitionEnd - 1;
+            
+            while(low <= high)
+            {
+                int mid = (low + high) >>> 1;
+                char midLabel = transitionLabelBuffer.get(mid);
+                
+                if(midLabel < letter)       low = mid + 1;
+                else if(midLabel > letter)  high = mid - 1;
+                else                        return mid;
+            }
+            
+            return -1;
+        }
+    }
+    
+    
+    
+    @Override
+    public DictionaryCursor getSourceCursor()
+    {
+        return new Cursor(sourceNode);
+    }
+    
+    
+    
+    /**
+     * A DictionaryCursor positioned at a node of this dictionary's graph.
+     */
+    private final class Cursor implements DictionaryCursor
+    {
+        //The index of the node this Cursor is positioned at, and that of its first transition
+        private int node;
+        private int transitionStart;
+        /////
+        
+        
+        
+        private Cursor(int node)
+        {
+            setNode(node);
+        }
+        
+        
+        
+        /**
+         * Positions this Cursor at a given node.
+         
+         * @param node      an int of the index of a node
+         */
+        private void setNode(int node)
+        {
+            this.node = node;
+            this.transitionStart = nodeTransitionStartBuffer.get(node);
+        }
+        
+        
+        
+        @Override
+        public boolean isAcceptNode()
+        {
+            return MappedDAWGDictionary.this.isAcceptNode(node);
+        }
+
+        
+        
+        @Override
+        public int getOutgoingTransitionCount()
+        {
+            return nodeTransitionStartBuffer.get(node + 1) - transitionStart;
+        }
+
+        
+        
+        @Override
+        public char getOutgoingTransitionLabel(int transitionIndex)
+        {
+            return transitionLabelBuffer.get(transitionStart + transitionIndex);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex)
+        {
+            return new Cursor(transitionTargetBuffer.get(transitionStart + transitionIndex));
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor transition(char letter)
+        {
+            int transitionIndex = findTransition(node, letter);
+            return (transitionIndex != -1 ? new Cursor(transitionTargetBuffer.get(transitionIndex)) : null);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor copy()
+        {
+            return new Cursor(node);
+        }
+        
+        
+        
+        @Override
+        public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex)
+        {
+            setNode(transitionTargetBuffer.get(((Cursor)parentCursor).transitionStart + transitionIndex));
+        }
+        
+        
+        
+        @Override
+        public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter)
+        {
+            int transitionIndex = findTransition(((Cursor)parentCursor).node, letter);
+            if(transitionIndex == -1) return false;
+            
+            setNode(transitionTargetBuffer.get(transitionIndex));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,859 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import com.BoxOfC.MDAG.MDAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+
+/**
+ * A utility class that can find all the pairs of Strings, either in a single collection or 
+ * across two collections or dictionaries, that are within a given edit distance of each other.
+ 
+ * @author Kevin
+ */
+public final class SimilarityJoin
+{
+    //The number of Strings in each of the row and column blocks that a self-join's pair matrix is split in to
+    private static final int TILE_SIZE = 256;
+    
+    
+    
+    /**
+     * Hidden SimilarityJoin constructor.
+     */
+    private SimilarityJoin(){}
+    
+    
+    
+    /**
+     * Finds all the pairs of Strings in an array that are within a given edit distance of each other,
+     * using the common fork/join pool to process the pairs in parallel.
+     
+     * @param strArray              a String array
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate the Strings of a pair
+     * @param listener              a SimilarityJoinListener which will be notified of each pair (i, j) of indices, with i < j, 
+     *                              such that {@code strArray[i]} and {@code strArray[j]} are within {@code maxEditDistance}
+     *                              of each other. It may be notified concurrently by multiple threads
+     */
+    public static void selfJoin(String[] strArray, int maxEditDistance, SimilarityJoinListener listener)
+    {
+        selfJoin(strArray, maxEditDistance, listener, ForkJoinPool.commonPool());
+    }
+    
+    
+    
+    /**
+     * Finds all the pairs of Strings in an array that are within a given edit distance of each other.
+     * 
+     * The Strings are sorted by length, allowing each String to be compared with only the Strings that 
+     * follow it in the order and are at most {@code maxEditDistance} chars longer than it. The resulting
+     * pair matrix is split in to tiles of {@value #TILE_SIZE} by {@value #TILE_SIZE} Strings, which are 
+     * distributed among the threads of {@code forkJoinPool} by row.
+     
+     * @param strArray              a String array
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate the Strings of a pair
+     * @param listener              a SimilarityJoinListener which will be notified of each pair (i, j) of indices, with i < j, 
+     *                              such that {@code strArray[i]} and {@code strArray[j]} are within {@code maxEditDistance}
+     *                              of each other. It may be notified concurrently by multiple threads
+     * @param forkJoinPool          the ForkJoinPool that the join is to be carried out in
+     */
+    public static void selfJoin(String[] strArray, int maxEditDistance, SimilarityJoinListener listener, ForkJoinPool forkJoinPool)
+    {
+        int strCount = strArray.length;
+        
+        //Sort the indices of the Strings by the lengths of the Strings they index, 
+        //packing each length and index in to a long so a primitive sort can be used
+        long[] lengthIndexArray = new long[strCount];
+        for(int i = 0; i < strCount; i++) lengthIndexArray[i] = ((long)strArray[i].length() << 32) | i;
+        Arrays.sort(lengthIndexArray);
+        /////
+        
+        String[] sortedStrArray = new String[strCount];
+        int[] originalIndexArray = new int[strCount];
+        
+        for(int i = 0; i < strCount; i++)
+        {
+            originalIndexArray[i] = (int)lengthIndexArray[i];
+            sortedStrArray[i] = strArray[originalIndexArray[i]];
+        }
+        
+        int blockCount = (strCount + TILE_SIZE - 1) / TILE_SIZE;
+        forkJoinPool.invoke(new SelfJoinTask(sortedStrArray, originalIndexArray, maxEditDistance, listener, 0, blockCount));
+    }
+    
+    
+    
+    /**
+     * A RecursiveAction which processes the tiles of a range of row blocks of a self-join's pair matrix.
+     */
+    private static final class SelfJoinTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+        
+        //The Strings being joined (sorted by length) and the indices they had in the array passed to selfJoin
+        private final String[] sortedStrArray;
+        private final int[] originalIndexArray;
+        /////
+        
+        private final int maxEditDistance;
+        private final SimilarityJoinListener listener;
+        
+        //The bounds of the range of row blocks this task is to process
+        private final int rowBlockStart;
+        private final int rowBlockEnd;
+        /////
+        
+        
+        
+        SelfJoinTask(String[] sortedStrArray, int[] originalIndexArray, int maxEditDistance, SimilarityJoinListener listener, int rowBlockStart, int rowBlockEnd)
+        {
+            this.sortedStrArray = sortedStrArray;
+            this.originalIndexArray = originalIndexArray;
+            this.maxEditDistance = maxEditDistance;
+            this.listener = listener;
+            this.rowBlockStart = rowBlockStart;
+            this.rowBlockEnd = rowBlockEnd;
+        }
+        
+        
+        
+        @Override
+        protected void compute()
+        {
+            if(rowBlockEnd - rowBlockStart > 1)
+            {
+                int rowBlockMid = (rowBlockStart + rowBlockEnd) >>> 1;
+                invokeAll(new SelfJoinTask(sortedStrArray, originalIndexArray, maxEditDistance, listener, rowBlockStart, rowBlockMid),
+                          new SelfJoinTask(sortedStrArray, originalIndexArray, maxEditDistance, listener, rowBlockMid, rowBlockEnd));
+            }
+            else if(rowBlockEnd > rowBlockStart)
+                processRowBlock(rowBlockStart);
+        }
+        
+        
+        
+        /**
+         * Compares each String in a row block with each of the Strings that follow it 
+         * and are at most maxEditDistance chars longer than it, one tile at a time.
+         
+         * @param rowBlockIndex     an int of the index of the row block to be processed
+         */
+        private void processRowBlock(int rowBlockIndex)
+        {
+            int strCount = sortedStrArray.length;
+            int rowStart = rowBlockIndex * TILE_SIZE;
+            int rowEnd = Math.min(strCount, rowStart + TILE_SIZE);
+            
+            //Preprocess each String in the row block once, for use in all of the tiles of the block
+            DistanceKernel[] distanceKernelArray = new DistanceKernel[rowEnd - rowStart];
+            for(int row = rowStart; row < rowEnd; row++) distanceKernelArray[row - rowStart] = new DistanceKernel(sortedStrArray[row]);
+            
+            int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+            
+            //The length of the longest String any String in the row block can be paired with
+            int maxReachableLength = sortedStrArray[rowEnd - 1].length() + maxEditDistance;
+            
+            //Loop through the column blocks which contain Strings short enough to be paired with those in 
+            //the row block, comparing the Strings of each tile while its column Strings are in cache
+            for(int colStart = rowStart; colStart < strCount && sortedStrArray[colStart].length() <= maxReachableLength; colStart += TILE_SIZE)
+            {
+                int colEnd = Math.min(strCount, colStart + TILE_SIZE);
+                
+                for(int row = rowStart; row < rowEnd; row++)
+                {
+                    DistanceKernel rowDistanceKernel = distanceKernelArray[row - rowStart];
+                    int rowReachableLength = rowDistanceKernel.getQueryLength() + maxEditDistance;
+                    
+                    for(int col = Math.max(row + 1, colStart); col < colEnd; col++)
+                    {
+                        //The Strings are sorted by length, so no String from here on can be paired with the row String
+                        if(sortedStrArray[col].length() > rowReachableLength) break;
+                        
+                        int editDistance = rowDistanceKernel.distance(sortedStrArray[col], maxEditDistance, histogramScratchArray);
+                        
+                        if(editDistance <= maxEditDistance)
+                        {
+                            int rowIndex = originalIndexArray[row];
+                            int colIndex = originalIndexArray[col];
+                            listener.pairFound(Math.min(rowIndex, colIndex), Math.max(rowIndex, colIndex), editDistance);
+                        }
+                    }
+                }
+            }
+            /////
+        }
+    }
+    
+    
+    
+    /**
+     * A growable list of String indices.
+     */
+    private static final class IndexList
+    {
+        int[] indexArray = new int[2];
+        int size = 0;
+        
+        
+        
+        void add(int index)
+        {
+            if(size == indexArray.length) indexArray = Arrays.copyOf(indexArray, size * 2);
+            indexArray[size++] = index;
+        }
+    }
+    
+    
+    
+    /**
+     * Finds all the pairs of Strings, one from each of two arrays, that are within a given edit distance of each other.
+     * 
+     * The join relies on the pigeonhole principle: each edit operation alters at most two adjacent chars
+     * (transpositions being the only operations that alter two), so if a String is split in to 
+     * (2 * {@code maxEditDistance} + 1) segments, at least one of them survives intact in every String within 
+     * {@code maxEditDistance} of it, shifted by at most {@code maxEditDistance} chars. The segments of the 
+     * Strings in the smaller array are indexed by String length and segment number, and each String in the
+     * larger array is used to probe the index with its substrings at the shifted positions of the segments. 
+     * The candidate pairs found this way (along with the pairs involving Strings too short to be segmented)
+     * are then verified with a bounded edit distance computation.
+     
+     * @param strArray1             a String array
+     * @param strArray2             a String array
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate the Strings of a pair
+     * @param listener              a SimilarityJoinListener which will be notified of each pair (i, j) of indices such that 
+     *                              {@code strArray1[i]} and {@code strArray2[j]} are within {@code maxEditDistance} of each other
+     */
+    public static void partitionJoin(String[] strArray1, String[] strArray2, int maxEditDistance, SimilarityJoinListener listener)
+    {
+        //Index the smaller of the arrays, keeping track of which one it is so the indices passed to listener can be ordered properly
+        boolean isStrArray1Indexed = (strArray1.length <= strArray2.length);
+        String[] indexedStrArray = (isStrArray1Indexed ? strArray1 : strArray2);
+        String[] probingStrArray = (isStrArray1Indexed ? strArray2 : strArray1);
+        /////
+        
+        int segmentCount = 2 * maxEditDistance + 1;
+        
+        //HashMap of keys, each containing a String length (in the upper 32 bits) and a segment number (in the lower 32 bits),
+        //to HashMaps of the segments with that number of the indexed Strings with that length to the indices of those Strings
+        HashMap<Long, HashMap<String, IndexList>> segmentHashMapContainerHashMap = new HashMap<Long, HashMap<String, IndexList>>();
+        
+        //HashMap of String lengths to the indices of the indexed Strings which have that length and are too short to be segmented
+        HashMap<Integer, IndexList> unsegmentableIndexListHashMap = new HashMap<Integer, IndexList>();
+        
+        //Index the segments of the Strings in indexedStrArray
+        for(int i = 0; i < indexedStrArray.length; i++)
+        {
+            String currentStr = indexedStrArray[i];
+            int currentStrLength = currentStr.length();
+            
+            if(currentStrLength < segmentCount)
+            {
+                IndexList unsegmentableIndexList = unsegmentableIndexListHashMap.get(currentStrLength);
+                if(unsegmentableIndexList == null) unsegmentableIndexListHashMap.put(currentStrLength, unsegmentableIndexList = new IndexList());
+                
+                unsegmentableIndexList.add(i);
+            }
+            else
+            {
+                for(int k = 0; k < segmentCount; k++)
+                {
+                    Long segmentKey = ((long)currentStrLength << 32) | k;
+                    HashMap<String, IndexList> segmentHashMap = segmentHashMapContainerHashMap.get(segmentKey);
+                    if(segmentHashMap == null) segmentHashMapContainerHashMap.put(segmentKey, segmentHashMap = new HashMap<String, IndexList>());
+                    
+                    String segment = currentStr.substring(k * currentStrLength / segmentCount, (k + 1) * currentStrLength / segmentCount);
+                    IndexList segmentIndexList = segmentHashMap.get(segment);
+                    if(segmentIndexList == null) segmentHashMap.put(segment, segmentIndexList = new IndexList());
+                    
+                    segmentIndexList.add(i);
+                }
+            }
+        }
+        /////
+        
+        //Array which will contain, for each indexed String, the index of the probing String it was last verified against,
+        //preventing a candidate that shares multiple segments with a probing String from being verified more than once
+        int[] lastProbeIndexArray = new int[indexedStrArray.length];
+        Arrays.fill(lastProbeIndexArray, -1);
+        /////
+        
+        int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+        
+        for(int probeIndex = 0; probeIndex < probingStrArray.length; probeIndex++)
+        {
+            String probingStr = probingStrArray[probeIndex];
+            int probingStrLength = probingStr.length();
+            DistanceKernel distanceKernel = new DistanceKernel(probingStr);
+            
+            //Loop through the lengths of the indexed Strings that can be within maxEditDistance of probingStr
+            for(int indexedStrLength = Math.max(0, probingStrLength - maxEditDistance); indexedStrLength <= probingStrLength + maxEditDistance; indexedStrLength++)
+            {
+                if(indexedStrLength < segmentCount)
+                {
+                    IndexList unsegmentableIndexList = unsegmentableIndexListHashMap.get(indexedStrLength);
+                    if(unsegmentableIndexList == null) continue;
+                    
+                    for(int i = 0; i < unsegmentableIndexList.size; i++)
+                        verifyPair(unsegmentableIndexList.indexArray[i], probeIndex, indexedStrArray, distanceKernel, maxEditDistance, histogramScratchArray, isStrArray1Indexed, listener);
+                }
+                else
+                {
+                    for(int k = 0; k < segmentCount; k++)
+                    {
+                        HashMap<String, IndexList> segmentHashMap = segmentHashMapContainerHashMap.get(((long)indexedStrLength << 32) | k);
+                        if(segmentHashMap == null) continue;
+                        
+                        int segmentStart = k * indexedStrLength / segmentCount;
+                        int segmentLength = (k + 1) * indexedStrLength / segmentCount - segmentStart;
+                        
+                        //Probe the segment HashMap with each of the substrings of probingStr that an intact segment could have shifted to
+                        int minProbeStart = Math.max(0, segmentStart - maxEditDistance);
+                        int maxProbeStart = Math.min(probingStrLength - segmentLength, segmentStart + maxEditDistance);
+                        
+                        for(int probeStart = minProbeStart; probeStart <= maxProbeStart; probeStart++)
+                        {
+                            IndexList segmentIndexList = segmentHashMap.get(probingStr.substring(probeStart, probeStart + segmentLength));
+                            if(segmentIndexList == null) continue;
+                            
+                            for(int i = 0; i < segmentIndexList.size; i++)
+                            {
+                                int indexedStrIndex = segmentIndexList.indexArray[i];
+                                
+                                if(lastProbeIndexArray[indexedStrIndex] != probeIndex)
+                                {
+                                    lastProbeIndexArray[indexedStrIndex] = probeIndex;
+                                    verifyPair(indexedStrIndex, probeIndex, indexedStrArray, distanceKernel, maxEditDistance, histogramScratchArray, isStrArray1Indexed, listener);
+                                }
+                            }
+                        }
+                        /////
+                    }
+                }
+            }
+            /////
+        }
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance of a candidate pair of a partition join, notifying the join's listener of the pair if it is a match.
+     
+     * @param indexedStrIndex           an int of the index of the pair's String in {@code indexedStrArray}
+     * @param probeIndex                an int of the index of the pair's String in the probing array
+     * @param indexedStrArray           the array of Strings indexed by the join
+     * @param distanceKernel            the DistanceKernel of the pair's probing String
+     * @param maxEditDistance           an int denoting the maximum amount of edit operations that can separate the Strings of a pair
+     * @param histogramScratchArray     an array created by DistanceKernel.createHistogramScratchArray()
+     * @param isStrArray1Indexed        true if {@code indexedStrArray} is the first array passed to the join, false otherwise
+     * @param listener                  the SimilarityJoinListener to be notified of the pair if it is a match
+     */
+    private static void verifyPair(int indexedStrIndex, int probeIndex, String[] indexedStrArray, DistanceKernel distanceKernel, 
+                                    int maxEditDistance, int[] histogramScratchArray, boolean isStrArray1Indexed, SimilarityJoinListener listener)
+    {
+        int editDistance = distanceKernel.distance(indexedStrArray[indexedStrIndex], maxEditDistance, histogramScratchArray);
+        
+        if(editDistance <= maxEditDistance)
+        {
+            if(isStrArray1Indexed)  listener.pairFound(indexedStrIndex, probeIndex, editDistance);
+            else                    listener.pairFound(probeIndex, indexedStrIndex, editDistance);
+        }
+    }
+    
+    
+    
+    /**
+     * A node in the trie of the prefixes of the Strings in the second dictionary of a dictionary join. 
+     * Distinct prefixes can lead to the same node of a dictionary graph (an MDAG for example) while having
+     * distinct edit distances to a given String, so join nodes are created per prefix rather than per graph node.
+     * The children of a node are only kept for as long as the first dictionary prefix whose active set caused
+     * their creation is being processed, so only the part of the trie that is in use is held in memory.
+     */
+    private static final class JoinNode
+    {
+        //The DictionaryCursor positioned at the end of this node's prefix
+        final DictionaryCursor cursor;
+        
+        //The JoinNode of the prefix one char shorter than this node's, and the last char of this node's prefix
+        final JoinNode parent;
+        final char letter;
+        /////
+        
+        //The number of chars in this node's prefix
+        final int depth;
+        
+        //Arrays containing the labels and JoinNodes of this node's outgoing transitions, created on first use
+        //and discarded by the ActiveSetBuilder of the join once the prefixes they represent are no longer in use
+        private char[] childLetterArray;
+        private JoinNode[] childArray;
+        /////
+        
+        //The identifier of the active set that is being built and that this node was last added to, along 
+        //with the smallest edit distance determined for this node's prefix in that active set
+        int activeSetId = -1;
+        int editDistance;
+        /////
+        
+        
+        
+        JoinNode(DictionaryCursor cursor, JoinNode parent, char letter, int depth)
+        {
+            this.cursor = cursor;
+            this.parent = parent;
+            this.letter = letter;
+            this.depth = depth;
+        }
+        
+        
+        
+        /**
+         * Retrieves the JoinNodes of the outgoing transitions of this node, creating them if they have not yet been created.
+         
+         * @return      an array of JoinNodes, sorted by the chars labeling the transitions to them
+         */
+        JoinNode[] getChildArray()
+        {
+            if(childArray == null)
+            {
+                int childCount = cursor.getOutgoingTransitionCount();
+                childLetterArray = new char[childCount];
+                childArray = new JoinNode[childCount];
+                
+                for(int i = 0; i < childCount; i++)
+                {
+                    childLetterArray[i] = cursor.getOutgoingTransitionLabel(i);
+                    childArray[i] = new JoinNode(cursor.getOutgoingTransitionTarget(i), this, childLetterArray[i], depth + 1);
+                }
+            }
+            
+            return childArray;
+        }
+        
+        
+        
+        /**
+         * Determines whether the JoinNodes of the outgoing transitions of this node have been created.
+         
+         * @return      true if the JoinNodes of this node's outgoing transitions currently exist, false otherwise
+         */
+        boolean isExpanded()
+        {
+            return (childArray != null);
+        }
+        
+        
+        
+        /**
+         * Discards the JoinNodes of the outgoing transitions of this node.
+         */
+        void collapse()
+        {
+            childLetterArray = null;
+            childArray = null;
+        }
+        
+        
+        
+        /**
+         * Retrieves the JoinNode of the outgoing transition of this node labeled with a given char.
+         
+         * @param letter        a char
+         * @return              the JoinNode of the prefix resulting from appending {@code letter} 
+         *                      to this node's prefix, or null if there is no such prefix
+         */
+        JoinNode getChild(char letter)
+        {
+            getChildArray();
+            int childIndex = Arrays.binarySearch(childLetterArray, letter);
+            
+            return (childIndex >= 0 ? childArray[childIndex] : null);
+        }
+        
+        
+        
+        /**
+         * Creates the prefix this node represents.
+         
+         * @return      a String of the chars on the path from the root JoinNode to this one
+         */
+        String createPrefixString()
+        {
+            char[] prefixCharArray = new char[depth];
+            for(JoinNode currentNode = this; currentNode.parent != null; currentNode = currentNode.parent)
+                prefixCharArray[currentNode.depth - 1] = currentNode.letter;
+            
+            return new String(prefixCharArray);
+        }
+    }
+    
+    
+    
+    /**
+     * The set of prefixes of the second dictionary of a dictionary join that are within the 
+     * join's maximum edit distance of a given prefix of the first, along with their edit distances.
+     */
+    private static final class ActiveSet
+    {
+        final JoinNode[] nodeArray;
+        final int[] editDistanceArray;
+        
+        
+        
+        ActiveSet(JoinNode[] nodeArray, int[] editDistanceArray)
+        {
+            this.nodeArray = nodeArray;
+            this.editDistanceArray = editDistanceArray;
+        }
+    }
+    
+    
+    
+    /**
+     * Creates the ActiveSets of a dictionary join. The candidate JoinNodes of a set are collected in to buckets by depth,
+     * since the edit distance of a prefix can be lowered by those of shorter prefixes of the same dictionary (insertions),
+     * but not by those of longer ones.
+     */
+    private static final class ActiveSetBuilder
+    {
+        private final int maxEditDistance;
+        
+        //Lists, each containing the candidate JoinNodes of the currently building set with a given depth. A JoinNode with 
+        //depth j is within maxEditDistance of a prefix of length i only if |i - j| <= maxEditDistance, so the list at index k 
+        //contains the nodes with depth (i - maxEditDistance + k), where i is the length of the set's first dictionary prefix
+        private final ArrayList<ArrayList<JoinNode>> depthBucketArrayList = new ArrayList<ArrayList<JoinNode>>();
+        
+        //The identifier of the currently building set
+        private int currentActiveSetId = -1;
+        
+        //The length of the first dictionary prefix of the currently building set
+        private int currentPrefixLength;
+        
+        //List containing the JoinNodes whose children have been created, in the order of their creation
+        private final ArrayList<JoinNode> expandedNodeArrayList = new ArrayList<JoinNode>();
+        
+        
+        
+        ActiveSetBuilder(int maxEditDistance)
+        {
+            this.maxEditDistance = maxEditDistance;
+            for(int i = 0; i <= 2 * maxEditDistance; i++) depthBucketArrayList.add(new ArrayList<JoinNode>());
+        }
+        
+        
+        
+        /**
+         * Retrieves the JoinNodes of the outgoing transitions of a JoinNode, recording the JoinNode if they are created by this call.
+         
+         * @param node      a JoinNode
+         * @return          an array of the JoinNodes of the outgoing transitions of {@code node}
+         */
+        private JoinNode[] getChildArray(JoinNode node)
+        {
+            if(!node.isExpanded()) expandedNodeArrayList.add(node);
+            
+            return node.getChildArray();
+        }
+        
+        
+        
+        /**
+         * Retrieves the JoinNode of the outgoing transition of a JoinNode labeled with a given char.
+         
+         * @param node      a JoinNode
+         * @param letter    a char
+         * @return          the JoinNode of the prefix resulting from appending {@code letter} 
+         *                  to {@code node}'s prefix, or null if there is no such prefix
+         */
+        private JoinNode getChild(JoinNode node, char letter)
+        {
+            getChildArray(node);
+            
+            return node.getChild(letter);
+        }
+        
+        
+        
+        /**
+         * Retrieves the amount of JoinNodes whose children currently exist.
+         
+         * @return      an int which, when passed to {@link #collapse(int)}, discards all the
+         *              JoinNodes created from the time of this call onwards
+         */
+        int getExpansionCount()
+        {
+            return expandedNodeArrayList.size();
+        }
+        
+        
+        
+        /**
+         * Discards the JoinNodes created since a given point in the join. Since an ActiveSet only contains JoinNodes which
+         * existed when it was built, this is safe to call with the value {@link #getExpansionCount()} returned before the 
+         * building of a set once that set and all of those built from it are no longer in use.
+         
+         * @param expansionCount        an int returned by a previous call to {@link #getExpansionCount()}
+         */
+        void collapse(int expansionCount)
+        {
+            for(int i = expandedNodeArrayList.size() - 1; i >= expansionCount; i--)
+                expandedNodeArrayList.remove(i).collapse();
+        }
+        
+        
+        
+        /**
+         * Adds a JoinNode to the currently building set, or lowers its edit distance if it has already been added.
+         
+         * @param node              a JoinNode
+         * @param editDistance      an int of an upper bound of the edit distance between {@code node}'s prefix
+         *                          and the first dictionary prefix of the currently building set
+         */
+        private void offer(JoinNode node, int editDistance)
+        {
+            if(editDistance > maxEditDistance) return;
+            
+            if(node.activeSetId != currentActiveSetId)
+            {
+                node.activeSetId = currentActiveSetId;
+                node.editDistance = editDistance;
+                depthBucketArrayList.get(node.depth - currentPrefixLength + maxEditDistance).add(node);
+            }
+            else
+                node.editDistance = Math.min(node.editDistance, editDistance);
+        }
+        
+        
+        
+        /**
+         * Begins the building of an ActiveSet.
+         
+         * @param prefixLength      an int of the length of the first dictionary prefix of the set
+         */
+        private void begin(int prefixLength)
+        {
+            currentActiveSetId++;
+            currentPrefixLength = prefixLength;
+        }
+        
+        
+        
+        /**
+         * Completes the building of the current ActiveSet by processing its candidates in order of depth,
+         * extending each whose edit distance is less than maxEditDistance with the chars following it (insertions).
+         
+         * @return      the ActiveSet containing the candidates offered since the last call to begin(int)
+         */
+        private ActiveSet finish()
+        {
+            ArrayList<JoinNode> nodeArrayList = new ArrayList<JoinNode>();
+            
+            for(ArrayList<JoinNode> depthBucket : depthBucketArrayList)
+            {
+                for(JoinNode currentNode : depthBucket)
+                {
+                    nodeArrayList.add(currentNode);
+                    
+                    if(currentNode.editDistance < maxEditDistance)
+                    {
+                        for(JoinNode childNode : getChildArray(currentNode))
+                            offer(childNode, currentNode.editDistance + 1);
+                    }
+                }
+                
+                depthBucket.clear();
+            }
+            
+            JoinNode[] nodeArray = nodeArrayList.toArray(new JoinNode[nodeArrayList.size()]);
+            int[] editDistanceArray = new int[nodeArray.length];
+            for(int i = 0; i < nodeArray.length; i++) editDistanceArray[i] = nodeArray[i].editDistance;
+            
+            return new ActiveSet(nodeArray, editDistanceArray);
+        }
+        
+        
+        
+        /**
+         * Creates the ActiveSet of the empty first dictionary prefix.
+         
+         * @param rootNode      the JoinNode of the empty second dictionary prefix
+         * @return              an ActiveSet containing the second dictionary prefixes with at most maxEditDistance chars
+         */
+        ActiveSet buildInitialSet(JoinNode rootNode)
+        {
+            begin(0);
+            offer(rootNode, 0);
+            
+            return finish();
+        }
+        
+        
+        
+        /**
+         * Creates the ActiveSet of a first dictionary prefix from those of its two longest proper prefixes.
+         
+         * @param grandparentSet        the ActiveSet of the prefix two chars shorter than the prefix of interest, or null if there is none
+         * @param parentSet             the ActiveSet of the prefix one char shorter than the prefix of interest
+         * @param prefixLength          an int of the length of the prefix of interest
+         * @param letter                a char of the last char of the prefix of interest
+         * @param previousLetter        a char of the second to last char of the prefix of interest (ignored if {@code grandparentSet} is null)
+         * @return                      the ActiveSet of the prefix of interest
+         */
+        ActiveSet buildNextSet(ActiveSet grandparentSet, ActiveSet parentSet, int prefixLength, char letter, char previousLetter)
+        {
+            begin(prefixLength);
+            
+            for(int i = 0; i < parentSet.nodeArray.length; i++)
+            {
+                JoinNode currentNode = parentSet.nodeArray[i];
+                int currentEditDistance = parentSet.editDistanceArray[i];
+                
+                //Consider the deletion of letter
+                offer(currentNode, currentEditDistance + 1);
+                
+                //Consider the matching or substitution of letter by each char following currentNode's prefix
+                for(JoinNode childNode : getChildArray(currentNode))
+                    offer(childNode, currentEditDistance + (childNode.letter == letter ? 0 : 1));
+            }
+            
+            //Consider the transposition of the last two chars of the prefix of interest
+            if(grandparentSet != null)
+            {
+                for(int i = 0; i < grandparentSet.nodeArray.length; i++)
+                {
+                    JoinNode childNode = getChild(grandparentSet.nodeArray[i], letter);
+                    JoinNode grandchildNode = (childNode != null ? getChild(childNode, previousLetter) : null);
+                    
+                    if(grandchildNode != null)
+                        offer(grandchildNode, grandparentSet.editDistanceArray[i] + (letter == previousLetter ? 0 : 1));
+                }
+            }
+            /////
+            
+            return finish();
+        }
+    }
+    
+    
+    
+    /**
+     * Finds all the pairs of Strings, one from each of two MDAGs, that are within a given edit distance of each other.
+     
+     * @param mdag1                 an MDAG
+     * @param mdag2                 an MDAG
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate the Strings of a pair
+     * @param listener              a DictionaryJoinListener which will be notified of each pair of Strings, 
+     *                              the first from {@code mdag1} and the second from {@code mdag2}, that are
+     *                              within {@code maxEditDistance} of each other
+     */
+    public static void dictionaryJoin(MDAG mdag1, MDAG mdag2, int maxEditDistance, DictionaryJoinListener listener)
+    {
+        dictionaryJoin(LevenshteinAutomaton.createFuzzySearchableDictionary(mdag1), LevenshteinAutomaton.createFuzzySearchableDictionary(mdag2), maxEditDistance, listener);
+    }
+    
+    
+    
+    /**
+     * Finds all the pairs of Strings, one from each of two dictionaries, that are within a given edit distance of each other.
+     * 
+     * The dictionaries are traversed simultaneously: the first depth-first, and the second through the set of its 
+     * prefixes within {@code maxEditDistance} of the currently processing prefix of the first. The set of a prefix
+     * is derived from those of the prefixes one and two chars shorter than it, so the work associated with a prefix
+     * of either dictionary is carried out once for all of the Strings that share it.
+     
+     * @param dictionary1           a FuzzySearchableDictionary
+     * @param dictionary2           a FuzzySearchableDictionary
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate the Strings of a pair
+     * @param listener              a DictionaryJoinListener which will be notified of each pair of Strings, 
+     *                              the first from {@code dictionary1} and the second from {@code dictionary2},
+     *                              that are within {@code maxEditDistance} of each other
+     */
+    public static void dictionaryJoin(FuzzySearchableDictionary dictionary1, FuzzySearchableDictionary dictionary2, int maxEditDistance, DictionaryJoinListener listener)
+    {
+        ActiveSetBuilder activeSetBuilder = new ActiveSetBuilder(maxEditDistance);
+        ActiveSet initialActiveSet = activeSetBuilder.buildInitialSet(new JoinNode(dictionary2.getSourceCursor(), null, '\0', 0));
+        
+        dictionaryJoin(dictionary1.getSourceCursor(), new StringBuilder(), null, initialActiveSet, activeSetBuilder, listener);
+    }
+    
+    
+    
+    /**
+     * Finds all the pairs of Strings, the first having a given prefix in the first dictionary of a join
+     * and the second being in the join's second dictionary, that are within the join's maximum edit distance of each other.
+     
+     * @param cursor1                   a DictionaryCursor positioned at the end of {@code prefixStrBuilder}'s prefix in the first dictionary
+     * @param prefixStrBuilder          a StringBuilder containing the first dictionary prefix of interest
+     * @param parentActiveSet           the ActiveSet of the prefix one char shorter than the prefix of interest, or null if there is none
+     * @param activeSet                 the ActiveSet of the prefix of interest
+     * @param activeSetBuilder          the ActiveSetBuilder of the join
+     * @param listener                  the DictionaryJoinListener of the join
+     */
+    private static void dictionaryJoin(DictionaryCursor cursor1, StringBuilder prefixStrBuilder, ActiveSet parentActiveSet, ActiveSet activeSet, 
+                                        ActiveSetBuilder activeSetBuilder, DictionaryJoinListener listener)
+    {
+        int prefixLength = prefixStrBuilder.length();
+        
+        //If the prefix of interest is a String in the first dictionary, pair it with each of the Strings in the active set
+        if(cursor1.isAcceptNode())
+        {
+            String str1 = prefixStrBuilder.toString();
+            
+            for(int i = 0; i < activeSet.nodeArray.length; i++)
+            {
+                JoinNode currentNode = activeSet.nodeArray[i];
+                if(currentNode.cursor.isAcceptNode()) listener.pairFound(str1, currentNode.createPrefixString(), activeSet.editDistanceArray[i]);
+            }
+        }
+        /////
+        
+        //Extend the prefix of interest with each char that follows it in the first dictionary, recursively processing 
+        //each extension that has a non-empty active set, then discarding the second dictionary prefixes created for it
+        int transitionCount = cursor1.getOutgoingTransitionCount();
+        for(int i = 0; i < transitionCount; i++)
+        {
+            char letter = cursor1.getOutgoingTransitionLabel(i);
+            char previousLetter = (prefixLength > 0 ? prefixStrBuilder.charAt(prefixLength - 1) : '\0');
+            int expansionCount = activeSetBuilder.getExpansionCount();
+            ActiveSet childActiveSet = activeSetBuilder.buildNextSet(parentActiveSet, activeSet, prefixLength + 1, letter, previousLetter);
+            
+            if(childActiveSet.nodeArray.length > 0)
+            {
+                prefixStrBuilder.append(letter);
+                dictionaryJoin(cursor1.getOutgoingTransitionTarget(i), prefixStrBuilder, activeSet, childActiveSet, activeSetBuilder, listener);
+                prefixStrBuilder.setLength(prefixLength);
+            }
+            
+            activeSetBuilder.collapse(expansionCount);
+        }
+        /////
+    }
+}
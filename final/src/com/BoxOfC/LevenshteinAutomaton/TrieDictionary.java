@@ -0,0 +1,267 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+
+
+/**
+ * A {@link FuzzySearchableDictionary} backed by a plain (uncompressed) trie.
+ 
+ * @author Kevin
+ */
+public final class TrieDictionary implements FuzzySearchableDictionary
+{
+    //The TrieNode that all transition paths in this trie start from
+    private final TrieNode sourceNode = new TrieNode();
+    
+    
+    
+    /**
+     * Constructs an empty TrieDictionary.
+     */
+    public TrieDictionary(){}
+    
+    
+    
+    /**
+     * Constructs a TrieDictionary containing the Strings in a Collection.
+     
+     * @param strCollection     a Collection of Strings
+     */
+    public TrieDictionary(Collection<String> strCollection)
+    {
+        for(String str : strCollection) addString(str);
+    }
+    
+    
+    
+    /**
+     * Adds a String to this TrieDictionary.
+     
+     * @param str       a String
+     */
+    public void addString(String str)
+    {
+        TrieNode currentNode = sourceNode;
+        
+        int strLength = str.length();
+        for(int i = 0; i < strLength; i++)
+            currentNode = currentNode.procureOutgoingTransitionTarget(str.charAt(i));
+        
+        currentNode.isAcceptNode = true;
+    }
+    
+    
+    
+    /**
+     * Determines if a String is contained in this TrieDictionary.
+     
+     * @param str       a String
+     * @return          true if {@code str} was added to this TrieDictionary; false otherwise
+     */
+    public boolean contains(String str)
+    {
+        TrieNode currentNode = sourceNode;
+        
+        int strLength = str.length();
+        for(int i = 0; i < strLength && currentNode != null; i++)
+            currentNode = currentNode.transition(str.charAt(i));
+        
+        return (currentNode != null && currentNode.isAcceptNode);
+    }
+    
+    
+    
+    @Override
+    public DictionaryCursor getSourceCursor()
+    {
+        return new Cursor(sourceNode);
+    }
+    
+    
+    
+    /**
+     * A node in a TrieDictionary.
+     */
+    private static final class TrieNode
+    {
+        //An empty char array shared by all TrieNodes that have no outgoing transitions
+        private static final char[] EMPTY_LABEL_ARRAY = new char[0];
+        
+        //An empty TrieNode array shared by all TrieNodes that have no outgoing transitions
+        private static final TrieNode[] EMPTY_TARGET_ARRAY = new TrieNode[0];
+        
+        //Arrays containing the labels and targets of this node's outgoing transitions, in ascending order of label
+        private char[] outgoingTransitionLabelArray = EMPTY_LABEL_ARRAY;
+        private TrieNode[] outgoingTransitionTargetArray = EMPTY_TARGET_ARRAY;
+        /////
+        
+        //The boolean denoting whether the char sequence leading to this node is a String in the trie
+        private boolean isAcceptNode;
+        
+        
+        
+        /**
+         * Retrieves the target of the outgoing transition of this node labeled 
+         * by a given char, creating the transition if it does not yet exist.
+         
+         * @param letter        a char
+         * @return              the TrieNode reached from this node by a transition on {@code letter}
+         */
+        private TrieNode procureOutgoingTransitionTarget(char letter)
+        {
+            int transitionIndex = Arrays.binarySearch(outgoingTransitionLabelArray, letter);
+            
+            if(transitionIndex < 0)
+            {
+                //Insert a new transition at the position that keeps the transition arrays sorted by label
+                int insertionIndex = -(transitionIndex + 1);
+                int outgoingTransitionCount = outgoingTransitionLabelArray.length;
+                
+                char[] newLabelArray = new char[outgoingTransitionCount + 1];
+                TrieNode[] newTargetArray = new TrieNode[outgoingTransitionCount + 1];
+                
+                System.arraycopy(outgoingTransitionLabelArray, 0, newLabelArray, 0, insertionIndex);
+                System.arraycopy(outgoingTransitionTargetArray, 0, newTargetArray, 0, insertionIndex);
+                System.arraycopy(outgoingTransitionLabelArray, insertionIndex, newLabelArray, insertionIndex + 1, outgoingTransitionCount - insertionIndex);
+                System.arraycopy(outgoingTransitionTargetArray, insertionIndex, newTargetArray, insertionIndex + 1, outgoingTransitionCount - insertionIndex);
+                
+                newLabelArray[insertionIndex] = letter;
+                newTargetArray[insertionIndex] = new TrieNode();
+                
+                outgoingTransitionLabelArray = newLabelArray;
+                outgoingTransitionTargetArray = newTargetArray;
+                transitionIndex = insertionIndex;
+                /////
+            }
+            
+            return outgoingTransitionTargetArray[transitionIndex];
+        }
+        
+        
+        
+        /**
+         * Retrieves the target of the outgoing transition of this node labeled by a given char.
+         
+         * @param letter        a char
+         * @return              the TrieNode reached from this node by a transition on {@code letter}, or null if no such transition exists
+         */
+        private TrieNode transition(char letter)
+        {
+            int transitionIndex = Arrays.binarySearch(outgoingTransitionLabelArray, letter);
+            return (transitionIndex >= 0 ? outgoingTransitionTargetArray[transitionIndex] : null);
+        }
+    }
+    
+    
+    
+    /**
+     * A DictionaryCursor positioned at a TrieNode.
+     */
+    private static final class Cursor implements DictionaryCursor
+    {
+        //The TrieNode this Cursor is positioned at
+        private TrieNode node;
+        
+        
+        
+        private Cursor(TrieNode node)
+        {
+            this.node = node;
+        }
+        
+        
+        
+        @Override
+        public boolean isAcceptNode()
+        {
+            return node.isAcceptNode;
+        }
+
+        
+        
+        @Override
+        public int getOutgoingTransitionCount()
+        {
+            return node.outgoingTransitionLabelArray.length;
+        }
+
+        
+        
+        @Override
+        public char getOutgoingTransitionLabel(int transitionIndex)
+        {
+            return node.outgoingTransitionLabelArray[transitionIndex];
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex)
+        {
+            return new Cursor(node.outgoingTransitionTargetArray[transitionIndex]);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor transition(char letter)
+        {
+            TrieNode transitionNode = node.transition(letter);
+            return (transitionNode != null ? new Cursor(transitionNode) : null);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor copy()
+        {
+            return new Cursor(node);
+        }
+        
+        
+        
+        @Override
+        public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex)
+        {
+            node = ((Cursor)parentCursor).node.outgoingTransitionTargetArray[transitionIndex];
+        }
+        
+        
+        
+        @Override
+        public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter)
+        {
+            TrieNode transitionNode = ((Cursor)parentCursor).node.transition(letter);
+            if(transitionNode == null) return false;
+            
+            node = transitionNode;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.TreeSet;
+
+
+
+/**
+ * A preprocessed pattern String capable of computing its restricted Damerau-Levenshtein (optimal string alignment)
+ * distance to other Strings using Hyyro's bit-parallel extension of Myers' algorithm.
+ * 
+ * The cells of each column of the edit distance matrix are represented by the bits of vertical delta vectors, 
+ * and whole columns are computed with a constant number of word operations per 64 pattern chars. Patterns of 
+ * up to 64 chars are processed in a single long; longer patterns are split in to blocks of 64 chars whose 
+ * arithmetic carries and shifted-out bits are propagated from block to block.
+ 
+ * @author Kevin
+ */
+public final class BitParallelPattern
+{
+    //The number of chars (starting from Character.MIN_VALUE) whose match masks are stored in a directly indexed array
+    private static final int DIRECT_CHAR_COUNT = 128;
+    
+    //The String this pattern was created from
+    private final String patternString;
+    
+    //The number of 64-bit blocks that each match mask and delta vector of this pattern consists of
+    private final int blockCount;
+    
+    //Array containing the match masks of the directly indexed chars. Bit i of the mask of char c is set iff
+    //pattern.charAt(i) == c, and block b of the mask is stored at (c * blockCount + b)
+    private final long[] directMatchMaskArray;
+    
+    //Sorted array of the chars in the pattern that are not directly indexed, and the array containing 
+    //their match masks (block b of the mask of the char at index k is stored at (k * blockCount + b))
+    private final char[] indirectCharArray;
+    private final long[] indirectMatchMaskArray;
+    /////
+    
+    //A long with only the bit corresponding to the last char of the pattern (in the last block) set
+    private final long lastPatternBitMask;
+    
+    
+    
+    /**
+     * Constructs a BitParallelPattern.
+     
+     * @param pattern       a CharSequence
+     */
+    public BitParallelPattern(CharSequence pattern)
+    {
+        patternString = pattern.toString();
+        
+        int patternLength = patternString.length();
+        blockCount = Math.max(1, (patternLength + 63) >>> 6);
+        lastPatternBitMask = (patternLength == 0 ? 0 : 1L << ((patternLength - 1) & 63));
+        
+        //Collect the chars of the pattern that cannot be directly indexed
+        TreeSet<Character> indirectCharTreeSet = new TreeSet<Character>();
+        for(int i = 0; i < patternLength; i++)
+        {
+            if(patternString.charAt(i) >= DIRECT_CHAR_COUNT) indirectCharTreeSet.add(patternString.charAt(i));
+        }
+        
+        int counter = 0;
+        indirectCharArray = new char[indirectCharTreeSet.size()];
+        for(Character c : indirectCharTreeSet) indirectCharArray[counter++] = c.charValue();
+        /////
+        
+        directMatchMaskArray = new long[DIRECT_CHAR_COUNT * blockCount];
+        indirectMatchMaskArray = new long[indirectCharArray.length * blockCount];
+        
+        //Set the bit corresponding to each pattern index in the match mask of the char at that index
+        for(int i = 0; i < patternLength; i++)
+        {
+            char currentChar = patternString.charAt(i);
+            long bit = 1L << (i & 63);
+            
+            if(currentChar < DIRECT_CHAR_COUNT)
+                directMatchMaskArray[currentChar * blockCount + (i >>> 6)] |= bit;
+            else
+                indirectMatchMaskArray[findIndirectCharIndex(currentChar) * blockCount + (i >>> 6)] |= bit;
+        }
+        /////
+    }
+    
+    
+    
+    /**
+     * Retrieves the String this pattern was created from.
+     
+     * @return      the String this pattern was created from
+     */
+    public String getPatternString()
+    {
+        return patternString;
+    }
+    
+    
+    
+    /**
+     * Retrieves the length of this pattern.
+     
+     * @return      an int of the number of chars in this pattern
+     */
+    public int getPatternLength()
+    {
+        return patternString.length();
+    }
+    
+    
+    
+    /**
+     * Finds the index of a char in indirectCharArray.
+     
+     * @param letter        a char
+     * @return              an int of the index of {@code letter} in indirectCharArray, or -1 if it is not present
+     */
+    private int findIndirectCharIndex(char letter)
+    {
+        int low = 0;
+        int high = indirectCharArray.length - 1;
+        
+        while(low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            
+            if(indirectCharArray[mid] < letter) low = mid + 1;
+            else if(indirectCharArray[mid] > letter) high = mid - 1;
+            else return mid;
+        }
+        
+        return -1;
+    }
+    
+    
+    
+    /**
+     * Retrieves a block of the match mask of a char.
+     
+     * @param letter        a char
+     * @param blockIndex    an int of the index of the block of interest
+     * @return              a long with bit i set iff the pattern char at index (64 * {@code blockIndex} + i) is {@code letter}
+     */
+    private long getMatchMask(char letter, int blockIndex)
+    {
+        if(letter < DIRECT_CHAR_COUNT) 
+            return directMatchMaskArray[letter * blockCount + blockIndex];
+        else
+        {
+            int indirectCharIndex = findIndirectCharIndex(letter);
+            return (indirectCharIndex == -1 ? 0 : indirectMatchMaskArray[indirectCharIndex * blockCount + blockIndex]);
+        }
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between this pattern and a char sequence.
+     
+     * @param text      a CharSequence
+     * @return          an int of the edit distance between this pattern and {@code text}
+     */
+    public int computeEditDistance(CharSequence text)
+    {
+        return computeEditDistance(text, Integer.MAX_VALUE - 1);
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between this pattern and a char sequence, 
+     * abandoning the computation once it exceeds a given maximum.
+     
+     * @param text                  a CharSequence
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between this pattern and {@code text} if it is 
+     *                              at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    public int computeEditDistance(CharSequence text, int maxEditDistance)
+    {
+        int patternLength = patternString.length();
+        int textLength = text.length();
+        
+        if(Math.abs(patternLength - textLength) > maxEditDistance) return maxEditDistance + 1;
+        else if(patternLength == 0) return textLength;
+        
+        return (blockCount == 1 ? computeSingleBlockEditDistance(text, maxEditDistance) : computeMultiBlockEditDistance(text, maxEditDistance));
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between this (at most 64 char) pattern and a char sequence,
+     * abandoning the computation once it exceeds a given maximum.
+     
+     * @param text                  a CharSequence
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between this pattern and {@code text} if it is 
+     *                              at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    private int computeSingleBlockEditDistance(CharSequence text, int maxEditDistance)
+    {
+        int textLength = text.length();
+        
+        //The vertical positive and negative delta vectors of the current column. Initially (for the column of the empty
+        //text prefix), each cell is one greater than the cell above it, so every bit of the positive vector is set
+        long vp = -1L;
+        long vn = 0;
+        /////
+        
+        //The diagonal zero delta vector and match mask of the previous column (used to detect transpositions)
+        long previousD0 = 0;
+        long previousMatchMask = 0;
+        /////
+        
+        //The value of the bottom cell of the current column (the edit distance between the pattern and the processed text prefix)
+        int score = patternString.length();
+        
+        for(int j = 0; j < textLength; j++)
+        {
+            long matchMask = getMatchMask(text.charAt(j), 0);
+            
+            //Compute the diagonal zero delta vector, taking in to account matches, 
+            //vertical negative deltas, and transpositions of adjacent chars
+            long transpositionMask = (((~previousD0) & matchMask) << 1) & previousMatchMask;
+            long d0 = ((((matchMask & vp) + vp) ^ vp) | matchMask | vn | transpositionMask);
+            /////
+            
+            //Compute the horizontal delta vectors, and use them to update the bottom cell value
+            long hp = vn | ~(d0 | vp);
+            long hn = vp & d0;
+            
+            if((hp & lastPatternBitMask) != 0) score++;
+            else if((hn & lastPatternBitMask) != 0) score--;
+            /////
+            
+            //Shift the horizontal delta vectors in to alignment with the vertical ones. The top cell of each
+            //column is one greater than that of the column before it, so a positive delta is shifted in
+            hp = (hp << 1) | 1L;
+            hn = hn << 1;
+            /////
+            
+            vp = hn | ~(d0 | hp);
+            vn = hp & d0;
+            
+            previousD0 = d0;
+            previousMatchMask = matchMask;
+            
+            //The bottom cell value can decrease by at most one per remaining text char
+            if(score - (textLength - j - 1) > maxEditDistance) return maxEditDistance + 1;
+        }
+        
+        return score;
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between this (longer than 64 char) pattern and a char sequence,
+     * abandoning the computation once it exceeds a given maximum.
+     
+     * @param text                  a CharSequence
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between this pattern and {@code text} if it is 
+     *                              at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    private int computeMultiBlockEditDistance(CharSequence text, int maxEditDistance)
+    {
+        int textLength = text.length();
+        int lastBlockIndex = blockCount - 1;
+        
+        //Arrays containing the blocks of the vectors used in computeSingleBlockEditDistance
+        long[] vpArray = new long[blockCount];
+        long[] vnArray = new long[blockCount];
+        long[] previousD0Array = new long[blockCount];
+        long[] previousMatchMaskArray = new long[blockCount];
+        /////
+        
+        for(int b = 0; b < blockCount; b++) vpArray[b] = -1L;
+        
+        int score = patternString.length();
+        
+        for(int j = 0; j < textLength; j++)
+        {
+            char currentChar = text.charAt(j);
+            
+            //The bits carried out of the previous block by the addition, the
+            //horizontal delta vector shifts, and the transposition mask shift
+            long additionCarry = 0;
+            long hpCarry = 1L;
+            long hnCarry = 0;
+            long transpositionCarry = 0;
+            /////
+            
+            for(int b = 0; b < blockCount; b++)
+            {
+                long matchMask = getMatchMask(currentChar, b);
+                long vp = vpArray[b];
+                long vn = vnArray[b];
+                
+                //Compute the block's transposition mask, carrying in the bit shifted out of the previous block
+                long unmatchedMatchMask = (~previousD0Array[b]) & matchMask;
+                long transpositionMask = ((unmatchedMatchMask << 1) | transpositionCarry) & previousMatchMaskArray[b];
+                transpositionCarry = unmatchedMatchMask >>> 63;
+                /////
+                
+                //Compute the block's sum of (matchMask & vp) and vp, carrying in and out of it
+                long addend = matchMask & vp;
+                long sum = addend + vp + additionCarry;
+                additionCarry = ((addend & vp) | ((addend | vp) & ~sum)) >>> 63;
+                /////
+                
+                long d0 = (sum ^ vp) | matchMask | vn | transpositionMask;
+                long hp = vn | ~(d0 | vp);
+                long hn = vp & d0;
+                
+                if(b == lastBlockIndex)
+                {
+                    if((hp & lastPatternBitMask) != 0) score++;
+                    else if((hn & lastPatternBitMask) != 0) score--;
+                }
+                
+                //Shift the horizontal delta vectors, carrying in the bits shifted out of the previous block
+                long shiftedHp = (hp << 1) | hpCarry;
+                long shiftedHn = (hn << 1) | hnCarry;
+                hpCarry = hp >>> 63;
+                hnCarry = hn >>> 63;
+                /////
+                
+                vpArray[b] = shiftedHn | ~(d0 | shiftedHp);
+                vnArray[b] = shiftedHp & d0;
+                
+                previousD0Array[b] = d0;
+                previousMatchMaskArray[b] = matchMask;
+            }
+            
+            if(score - (textLength - j - 1) > maxEditDistance) return maxEditDistance + 1;
+        }
+        
+        return score;
+    }
+}
@@ -0,0 +1,383 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+
+
+/**
+ * A deterministic Levenshtein automaton for a specific String and maximum edit distance,
+ * with its States numbered and its transitions stored in a flat table.
+ * 
+ * Since transitions only depend on the characteristic vector of a char with respect to the 
+ * automaton String, the chars of the alphabet are partitioned in to classes: one for each
+ * distinct char in the automaton String, and one for all other chars. 
+ 
+ * @author Kevin
+ */
+public final class CompiledLevenshteinAutomaton
+{
+    //The id of the state that all automaton operations start from
+    public static final int INITIAL_STATE_ID = 0;
+    
+    //The id denoting the failure state
+    public static final int FAILURE_STATE_ID = -1;
+    
+    //The maximum amount of edit operations allowed by this automaton
+    private final int maxEditDistance;
+    
+    //The String that this automaton carries out all edit distance calculations in relation to
+    private final String automatonString;
+    
+    //Sorted array of the distinct chars in automatonString. The char at index i is the sole member of char class i;
+    //all chars that do not appear in automatonString are members of the char class at index distinctCharArray.length
+    private final char[] distinctCharArray;
+    
+    //The number of char classes of this automaton (distinctCharArray.length + 1)
+    private final int charClassCount;
+    
+    //Array of state ids in which the id of the state resulting from a transition on a given
+    //state and char class is stored at (stateId * charClassCount + charClass)
+    private final int[] transitionArray;
+    
+    //Array of booleans each denoting the acceptance status of the state with a corresponding id
+    private final boolean[] acceptStateArray;
+    
+    
+    
+    /**
+     * Constructs a CompiledLevenshteinAutomaton by exploring every State reachable
+     * from the initial State of the automaton defined by the arguments.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations allowed by the automaton
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     */
+    public CompiledLevenshteinAutomaton(int maxEditDistance, String automatonString)
+    {
+        this.maxEditDistance = maxEditDistance;
+        this.automatonString = automatonString;
+        
+        //Create distinctCharArray from the chars of automatonString
+        TreeSet<Character> charTreeSet = new TreeSet<Character>();
+        for(int i = 0; i < automatonString.length(); i++) charTreeSet.add(automatonString.charAt(i));
+        
+        int counter = 0;
+        distinctCharArray = new char[charTreeSet.size()];
+        for(Character c : charTreeSet) distinctCharArray[counter++] = c.charValue();
+        /////
+        
+        charClassCount = distinctCharArray.length + 1;
+        
+        //Find a char that does not appear in automatonString to represent the last char class during transitions
+        char otherChar = Character.MIN_VALUE;
+        while(charTreeSet.contains(otherChar)) otherChar++;
+        /////
+        
+        //HashMap of States to ids, and ArrayList of States indexed by id, of the States discovered so far
+        HashMap<State, Integer> stateIdHashMap = new HashMap<State, Integer>();
+        ArrayList<State> stateArrayList = new ArrayList<State>();
+        /////
+        
+        stateIdHashMap.put(LevenshteinAutomaton.getInitialState(), INITIAL_STATE_ID);
+        stateArrayList.add(LevenshteinAutomaton.getInitialState());
+        
+        //ArrayList which will contain the transition table row of each state, in the order of the State ids
+        ArrayList<int[]> transitionRowArrayList = new ArrayList<int[]>();
+        
+        //Loop through the discovered States in order of discovery, transitioning each on a representative of every char class 
+        //and assigning ids to the resulting States that have not yet been discovered. This ends when no new States are found
+        for(int stateId = 0; stateId < stateArrayList.size(); stateId++)
+        {
+            State currentState = stateArrayList.get(stateId);
+            int[] transitionRow = new int[charClassCount];
+            
+            for(int charClass = 0; charClass < charClassCount; charClass++)
+            {
+                char representativeChar = (charClass < distinctCharArray.length ? distinctCharArray[charClass] : otherChar);
+                State transitionState = currentState.transition(maxEditDistance, automatonString, representativeChar);
+                
+                if(transitionState == null)
+                    transitionRow[charClass] = FAILURE_STATE_ID;
+                else
+                {
+                    Integer transitionStateId = stateIdHashMap.get(transitionState);
+                    
+                    if(transitionStateId == null)
+                    {
+                        transitionStateId = stateArrayList.size();
+                        stateIdHashMap.put(transitionState, transitionStateId);
+                        stateArrayList.add(transitionState);
+                    }
+                    
+                    transitionRow[charClass] = transitionStateId;
+                }
+            }
+            
+            transitionRowArrayList.add(transitionRow);
+        }
+        /////
+        
+        //Flatten the transition table rows in to transitionArray and determine the acceptance status of each State
+        int stateCount = stateArrayList.size();
+        transitionArray = new int[stateCount * charClassCount];
+        acceptStateArray = new boolean[stateCount];
+        
+        for(int stateId = 0; stateId < stateCount; stateId++)
+        {
+            System.arraycopy(transitionRowArrayList.get(stateId), 0, transitionArray, stateId * charClassCount, charClassCount);
+            acceptStateArray[stateId] = LevenshteinAutomaton.isAcceptState(stateArrayList.get(stateId), automatonString.length(), maxEditDistance);
+        }
+        /////
+    }
+    
+    
+    
+    /**
+     * Retrieves the maximum edit distance of this automaton.
+     
+     * @return      an int denoting the maximum amount of edit operations allowed by this automaton
+     */
+    public int getMaxEditDistance()
+    {
+        return maxEditDistance;
+    }
+    
+    
+    
+    /**
+     * Retrieves the String this automaton carries out all edit distance calculations in relation to.
+     
+     * @return      the String this automaton was compiled for
+     */
+    public String getAutomatonString()
+    {
+        return automatonString;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of (non-failure) states in this automaton.
+     
+     * @return      an int of the number of states in this automaton
+     */
+    public int getStateCount()
+    {
+        return acceptStateArray.length;
+    }
+    
+    
+    
+    /**
+     * Determines the class of a char.
+     
+     * @param letter        a char
+     * @return              an int of the index of the char class {@code letter} is a member of
+     */
+    private int getCharClass(char letter)
+    {
+        int charIndex = Arrays.binarySearch(distinctCharArray, letter);
+        return (charIndex >= 0 ? charIndex : distinctCharArray.length);
+    }
+    
+    
+    
+    /**
+     * Retrieves the id of the state resulting from a transition on a given state and char.
+     
+     * @param stateId       an int of the id of a (non-failure) state
+     * @param letter        a char
+     * @return              an int of the id of the state resulting from the transition of 
+     *                      the state with {@code stateId} on {@code letter}, or FAILURE_STATE_ID
+     */
+    public int transition(int stateId, char letter)
+    {
+        return transitionArray[stateId * charClassCount + getCharClass(letter)];
+    }
+    
+    
+    
+    /**
+     * Determines if a state is accepting.
+     
+     * @param stateId       an int of the id of a (non-failure) state
+     * @return              true if the state with {@code stateId} is accepting; false otherwise
+     */
+    public boolean isAcceptState(int stateId)
+    {
+        return acceptStateArray[stateId];
+    }
+    
+    
+    
+    /**
+     * Determines if a char sequence is accepted by this automaton.
+     
+     * @param charSequence      a CharSequence
+     * @return                  true if {@code charSequence} is within maxEditDistance 
+     *                          of automatonString; false otherwise
+     */
+    public boolean accepts(CharSequence charSequence)
+    {
+        int currentStateId = INITIAL_STATE_ID;
+        
+        int charCount = charSequence.length();
+        for(int i = 0; i < charCount && currentStateId != FAILURE_STATE_ID; i++)
+            currentStateId = transition(currentStateId, charSequence.charAt(i));
+        
+        return (currentStateId != FAILURE_STATE_ID && acceptStateArray[currentStateId]);
+    }
+    
+    
+    
+    /**
+     * Finds the smallest char greater than or equal to a given char that a state has a non-failure transition on.
+     
+     * @param stateId       an int of the id of a (non-failure) state
+     * @param fromChar      a char
+     * @return              an int of the smallest char greater than or equal to {@code fromChar} that the state with 
+     *                      {@code stateId} has a non-failure transition on, or -1 if no such char exists
+     */
+    private int findSmallestLiveChar(int stateId, char fromChar)
+    {
+        int currentChar = fromChar;
+        
+        while(currentChar <= Character.MAX_VALUE)
+        {
+            int charIndex = Arrays.binarySearch(distinctCharArray, (char)currentChar);
+            int charClass = (charIndex >= 0 ? charIndex : distinctCharArray.length);
+            
+            if(transitionArray[stateId * charClassCount + charClass] != FAILURE_STATE_ID) 
+                return currentChar;
+            else if(charIndex >= 0)
+                currentChar++;
+            else
+            {
+                //Every char outside of distinctCharArray shares currentChar's (failure) transition, 
+                //so jump directly to the next char in distinctCharArray (if one exists)
+                int nextDistinctCharIndex = -(charIndex + 1);
+                if(nextDistinctCharIndex == distinctCharArray.length) return -1;
+                currentChar = distinctCharArray[nextDistinctCharIndex];
+                /////
+            }
+        }
+        
+        return -1;
+    }
+    
+    
+    
+    /**
+     * Appends to a StringBuilder the smallest char sequence that leads from a given state to an accept state.
+     
+     * @param stateId           an int of the id of a (non-failure) state
+     * @param strBuilder        the StringBuilder that the char sequence is to be appended to
+     */
+    private void appendSmallestAcceptingPath(int stateId, StringBuilder strBuilder)
+    {
+        //Every live state of a Levenshtein automaton can reach an accept state, and every transition
+        //either consumes a char of automatonString or an edit operation, so this loop will terminate
+        while(!acceptStateArray[stateId])
+        {
+            char smallestLiveChar = (char)findSmallestLiveChar(stateId, Character.MIN_VALUE);
+            strBuilder.append(smallestLiveChar);
+            stateId = transition(stateId, smallestLiveChar);
+        }
+    }
+    
+    
+    
+    /**
+     * Finds the smallest String accepted by this automaton that is greater than or equal to a given String.
+     * 
+     * This allows for the efficient enumeration of the accepted Strings in a sorted collection: 
+     * each String that is not accepted can be used to seek directly to the next String that could be.
+     
+     * @param str       a String
+     * @return          the smallest String (in natural order) that is greater than or equal to {@code str} and is 
+     *                  within maxEditDistance of automatonString, or null if no such String exists
+     */
+    public String nextAcceptedString(String str)
+    {
+        int strLength = str.length();
+        
+        //Transition through this automaton using the chars of str, storing the id of the state reached by each of its prefixes
+        int[] prefixStateIdArray = new int[strLength + 1];
+        prefixStateIdArray[0] = INITIAL_STATE_ID;
+        
+        int livePrefixLength = 0;
+        while(livePrefixLength < strLength)
+        {
+            int transitionStateId = transition(prefixStateIdArray[livePrefixLength], str.charAt(livePrefixLength));
+            if(transitionStateId == FAILURE_STATE_ID) break;
+            
+            prefixStateIdArray[++livePrefixLength] = transitionStateId;
+        }
+        /////
+        
+        if(livePrefixLength == strLength)
+        {
+            int strStateId = prefixStateIdArray[strLength];
+            if(acceptStateArray[strStateId]) return str;
+            
+            //The smallest accepted String greater than str that is prefixed by it is str followed by the 
+            //smallest accepting path from the state it leads to (which starts with the smallest live char)
+            int smallestLiveChar = findSmallestLiveChar(strStateId, Character.MIN_VALUE);
+            if(smallestLiveChar != -1)
+            {
+                StringBuilder strBuilder = new StringBuilder(str).append((char)smallestLiveChar);
+                appendSmallestAcceptingPath(transition(strStateId, (char)smallestLiveChar), strBuilder);
+                return strBuilder.toString();
+            }
+            /////
+            
+            livePrefixLength--;
+        }
+        
+        //Loop backwards through the live prefixes of str, searching for the longest one whose next char in str can be replaced by a larger char that
+        //has a non-failure transition. The smallest accepted String greater than str is that prefix, followed by the replacement char
+        //and the smallest accepting path from the state it leads to
+        for(int i = livePrefixLength; i >= 0; i--)
+        {
+            char currentChar = str.charAt(i);
+            if(currentChar == Character.MAX_VALUE) continue;
+            
+            int replacementChar = findSmallestLiveChar(prefixStateIdArray[i], (char)(currentChar + 1));
+            if(replacementChar != -1)
+            {
+                StringBuilder strBuilder = new StringBuilder(str.substring(0, i)).append((char)replacementChar);
+                appendSmallestAcceptingPath(transition(prefixStateIdArray[i], (char)replacementChar), strBuilder);
+                return strBuilder.toString();
+            }
+        }
+        /////
+        
+        return null;
+    }
+}
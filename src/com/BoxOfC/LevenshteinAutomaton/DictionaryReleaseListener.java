@@ -0,0 +1,45 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * An interface describing an object that is notified when a dictionary published 
+ * to a {@link FuzzySearchableDictionaryHolder} is no longer in use.
+ 
+ * @author Kevin
+ */
+public interface DictionaryReleaseListener
+{
+    /**
+     * Notifies this listener that a dictionary has been replaced in its holder and that every search of it has finished, 
+     * so that the resources associated with it may be freed. Called exactly once per published dictionary, by the thread
+     * that released the last reference to it.
+     
+     * @param dictionary        the FuzzySearchableDictionary that is no longer in use
+     */
+    public void dictionaryReleased(FuzzySearchableDictionary dictionary);
+}
@@ -0,0 +1,199 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * A query String preprocessed for the computation of its bounded edit distances to many candidate Strings.
+ * All of the query-side work (the creation of the match masks of the bit-parallel algorithm and of 
+ * the character histogram) is done once on creation, leaving only candidate-side work per candidate.
+ * 
+ * Candidates are first checked with the length filter (the edit distance is at least the difference of the
+ * lengths) and, in the bulk methods, with the character histogram filter (each edit operation removes at most 
+ * one surplus char from each String), before the edit distance itself is computed. Instances are immutable
+ * and may be shared between threads.
+ 
+ * @author Kevin
+ */
+public final class DistanceKernel
+{
+    //The number of buckets chars are distributed among in the character histograms
+    private static final int HISTOGRAM_BUCKET_COUNT = 64;
+    
+    //The preprocessed query String
+    private final BitParallelPattern pattern;
+    
+    //Array containing the number of chars of the query String that fall in each histogram bucket
+    private final int[] queryHistogramArray = new int[HISTOGRAM_BUCKET_COUNT];
+    
+    
+    
+    /**
+     * Constructs a DistanceKernel.
+     
+     * @param query     a CharSequence
+     */
+    public DistanceKernel(CharSequence query)
+    {
+        pattern = new BitParallelPattern(query);
+        
+        String queryString = pattern.getPatternString();
+        for(int i = 0; i < queryString.length(); i++) 
+            queryHistogramArray[queryString.charAt(i) & (HISTOGRAM_BUCKET_COUNT - 1)]++;
+    }
+    
+    
+    
+    /**
+     * Retrieves the query String.
+     
+     * @return      the String this kernel computes edit distances in relation to
+     */
+    public String getQueryString()
+    {
+        return pattern.getPatternString();
+    }
+    
+    
+    
+    /**
+     * Retrieves the length of the query String.
+     
+     * @return      an int of the number of chars in the query String
+     */
+    public int getQueryLength()
+    {
+        return pattern.getPatternLength();
+    }
+    
+    
+    
+    /**
+     * Creates an array capable of serving as the scratch histogram of distance(CharSequence, int, int[]).
+     
+     * @return      an int array with an element for each histogram bucket
+     */
+    static int[] createHistogramScratchArray()
+    {
+        return new int[HISTOGRAM_BUCKET_COUNT];
+    }
+    
+    
+    
+    /**
+     * Computes a lower bound of the edit distance between the query String and a candidate 
+     * from the differences between the number of chars in each of their histogram buckets.
+     
+     * @param candidate                 a CharSequence
+     * @param histogramScratchArray     an int array with an element for each histogram bucket, whose contents are overwritten
+     * @return                          an int of a lower bound of the edit distance between the query String and {@code candidate}
+     */
+    private int computeHistogramLowerBound(CharSequence candidate, int[] histogramScratchArray)
+    {
+        System.arraycopy(queryHistogramArray, 0, histogramScratchArray, 0, HISTOGRAM_BUCKET_COUNT);
+        
+        int candidateLength = candidate.length();
+        for(int i = 0; i < candidateLength; i++)
+            histogramScratchArray[candidate.charAt(i) & (HISTOGRAM_BUCKET_COUNT - 1)]--;
+        
+        //Total the surplus chars of the query String and the candidate. Each insertion and deletion removes a 
+        //surplus char from one of the Strings, each substitution removes at most one from each, and transpositions
+        //remove none, so at least max(querySurplus, candidateSurplus) operations are needed to turn one in to the other
+        int querySurplus = 0;
+        int candidateSurplus = 0;
+        
+        for(int i = 0; i < HISTOGRAM_BUCKET_COUNT; i++)
+        {
+            int countDifference = histogramScratchArray[i];
+            
+            if(countDifference > 0) querySurplus += countDifference;
+            else                    candidateSurplus -= countDifference;
+        }
+        /////
+        
+        return Math.max(querySurplus, candidateSurplus);
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between the query String and a candidate, abandoning the computation once it exceeds a given maximum.
+     
+     * @param candidate             a CharSequence
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between the query String and {@code candidate} 
+     *                              if it is at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    public int distance(CharSequence candidate, int maxEditDistance)
+    {
+        return distance(candidate, maxEditDistance, null);
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between the query String and a candidate, abandoning the computation once it exceeds a given maximum.
+     
+     * @param candidate                 a CharSequence
+     * @param maxEditDistance           an int of the largest edit distance of interest
+     * @param histogramScratchArray     an array created by createHistogramScratchArray() which will be used to apply
+     *                                  the character histogram filter, or null if the filter is not to be applied
+     * @return                          an int of the edit distance between the query String and {@code candidate} 
+     *                                  if it is at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    int distance(CharSequence candidate, int maxEditDistance, int[] histogramScratchArray)
+    {
+        if(Math.abs(pattern.getPatternLength() - candidate.length()) > maxEditDistance) 
+            return maxEditDistance + 1;
+        else if(histogramScratchArray != null && computeHistogramLowerBound(candidate, histogramScratchArray) > maxEditDistance)
+            return maxEditDistance + 1;
+        else
+            return pattern.computeEditDistance(candidate, maxEditDistance);
+    }
+    
+    
+    
+    /**
+     * Computes the edit distances between the query String and each of a set of candidates, 
+     * abandoning each computation once it exceeds a given maximum.
+     
+     * @param candidateArray        a String array
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @param resultArray           an int array, at least as long as {@code candidateArray}, which element i of will be set to the
+     *                              edit distance between the query String and {@code candidateArray[i]} if it is at most 
+     *                              {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    public void distances(String[] candidateArray, int maxEditDistance, int[] resultArray)
+    {
+        if(resultArray.length < candidateArray.length)
+            throw new IllegalArgumentException("resultArray must be at least as long as candidateArray");
+        
+        int[] histogramScratchArray = createHistogramScratchArray();
+        
+        for(int i = 0; i < candidateArray.length; i++)
+            resultArray[i] = distance(candidateArray[i], maxEditDistance, histogramScratchArray);
+    }
+}
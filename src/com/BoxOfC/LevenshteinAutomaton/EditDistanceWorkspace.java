@@ -0,0 +1,264 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * A reusable set of scratch buffers capable of computing bounded edit distances without allocating memory
+ * (aside from the occasional growth of its buffers). Instances are not thread-safe; each should be 
+ * confined to a single thread, such as the one retrieved by getThreadLocalInstance().
+ 
+ * @author Kevin
+ */
+public final class EditDistanceWorkspace
+{
+    //The workspaces belonging to each of the threads that have requested one
+    private static final ThreadLocal<EditDistanceWorkspace> threadLocalWorkspace = new ThreadLocal<EditDistanceWorkspace>()
+    {
+        @Override
+        protected EditDistanceWorkspace initialValue()
+        {
+            return new EditDistanceWorkspace();
+        }
+    };
+    
+    //Arrays representing columns of the edit distance matrix (see LevenshteinAutomaton.computeEditDistance(String, String))
+    private int[] ancestorMatrixCol = new int[0];
+    private int[] previousMatrixCol = new int[0];
+    private int[] currentMatrixCol = new int[0];
+    /////
+    
+    //Arrays that the chars of CharSequence arguments are copied in to
+    private char[] charBuffer1 = new char[0];
+    private char[] charBuffer2 = new char[0];
+    /////
+    
+    
+    
+    /**
+     * Retrieves the EditDistanceWorkspace confined to the calling thread.
+     
+     * @return      the EditDistanceWorkspace belonging to the calling thread
+     */
+    public static EditDistanceWorkspace getThreadLocalInstance()
+    {
+        return threadLocalWorkspace.get();
+    }
+    
+    
+    
+    /**
+     * Creates an array large enough to hold a given number of elements, 
+     * over-allocating it to reduce the number of future reallocations.
+     
+     * @param requiredLength        an int of the number of elements the array must be able to hold
+     * @return                      an int of the length the array should be allocated with
+     */
+    private static int computeGrownLength(int requiredLength)
+    {
+        return Math.max(requiredLength, Math.min(Integer.MAX_VALUE - 8, (requiredLength >> 1) + requiredLength));
+    }
+    
+    
+    
+    /**
+     * Ensures the column arrays are each capable of holding a given number of cells.
+     
+     * @param colLength     an int of the number of cells each column array must be able to hold
+     */
+    private void ensureColCapacity(int colLength)
+    {
+        if(currentMatrixCol.length < colLength)
+        {
+            int grownLength = computeGrownLength(colLength);
+            ancestorMatrixCol = new int[grownLength];
+            previousMatrixCol = new int[grownLength];
+            currentMatrixCol = new int[grownLength];
+        }
+    }
+    
+    
+    
+    /**
+     * Copies the chars of a CharSequence in to a buffer, replacing the buffer if it is too small.
+     
+     * @param charSeq       a CharSequence
+     * @param buffer        a char array
+     * @return              {@code buffer} if it was large enough to hold the chars of {@code charSeq}, 
+     *                      or a newly created array containing them otherwise
+     */
+    private static char[] copyToBuffer(CharSequence charSeq, char[] buffer)
+    {
+        int charSeqLength = charSeq.length();
+        if(buffer.length < charSeqLength) buffer = new char[computeGrownLength(charSeqLength)];
+        
+        //Use the bulk copy methods of the commonly used CharSequence implementations where possible
+        if(charSeq instanceof String)               ((String)charSeq).getChars(0, charSeqLength, buffer, 0);
+        else if(charSeq instanceof StringBuilder)   ((StringBuilder)charSeq).getChars(0, charSeqLength, buffer, 0);
+        else
+        {
+            for(int i = 0; i < charSeqLength; i++) 
+                buffer[i] = charSeq.charAt(i);
+        }
+        /////
+        
+        return buffer;
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between two CharSequences.
+     
+     * @param charSeq1      a CharSequence
+     * @param charSeq2      a CharSequence
+     * @return              an int of the edit distance between {@code charSeq1} and {@code charSeq2}
+     */
+    public int computeEditDistance(CharSequence charSeq1, CharSequence charSeq2)
+    {
+        return computeEditDistance(charSeq1, charSeq2, Math.max(charSeq1.length(), charSeq2.length()));
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between two CharSequences, abandoning the computation once it exceeds a given maximum.
+     
+     * @param charSeq1              a CharSequence
+     * @param charSeq2              a CharSequence
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between {@code charSeq1} and {@code charSeq2} if it 
+     *                              is at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    public int computeEditDistance(CharSequence charSeq1, CharSequence charSeq2, int maxEditDistance)
+    {
+        int charSeq1Length = charSeq1.length();
+        int charSeq2Length = charSeq2.length();
+        
+        //Avoid copying the chars of CharSequences that cannot be within maxEditDistance of each other
+        if(Math.abs(charSeq1Length - charSeq2Length) > maxEditDistance) return maxEditDistance + 1;
+        
+        charBuffer1 = copyToBuffer(charSeq1, charBuffer1);
+        charBuffer2 = copyToBuffer(charSeq2, charBuffer2);
+        
+        return computeEditDistance(charBuffer1, 0, charSeq1Length, charBuffer2, 0, charSeq2Length, maxEditDistance);
+    }
+    
+    
+    
+    /**
+     * Computes the edit distance between two char array segments, abandoning the computation once it exceeds a given maximum.
+     * Only the cells of the edit distance matrix within {@code maxEditDistance} of its main diagonal are computed,
+     * since every cell outside of that band is greater than {@code maxEditDistance}.
+     
+     * @param chars1                a char array
+     * @param offset1               an int of the index in {@code chars1} of the first char of the first segment
+     * @param length1               an int of the number of chars in the first segment
+     * @param chars2                a char array
+     * @param offset2               an int of the index in {@code chars2} of the first char of the second segment
+     * @param length2               an int of the number of chars in the second segment
+     * @param maxEditDistance       an int of the largest edit distance of interest
+     * @return                      an int of the edit distance between the two segments if it 
+     *                              is at most {@code maxEditDistance}, or {@code maxEditDistance + 1} otherwise
+     */
+    public int computeEditDistance(char[] chars1, int offset1, int length1, char[] chars2, int offset2, int length2, int maxEditDistance)
+    {
+        //No two segments are farther apart than the length of the longer one, so a larger maxEditDistance (such as
+        //Integer.MAX_VALUE, denoting an unbounded computation) is lowered to it before the band and cap are derived from it
+        maxEditDistance = Math.min(maxEditDistance, Math.max(length1, length2));
+        
+        //The value that all edit distances greater than maxEditDistance are represented by
+        int tooFarEditDistance = maxEditDistance + 1;
+        
+        //Each edit operation changes the length of a sequence by at most 1, so sequences whose 
+        //lengths differ by more than maxEditDistance cannot be within maxEditDistance of each other
+        if(Math.abs(length1 - length2) > maxEditDistance)   return tooFarEditDistance;
+        else if(length1 == 0 || length2 == 0)               return Math.max(length1, length2);
+        
+        //The distance from the main diagonal beyond which matrix cells are not computed
+        int bandRadius = maxEditDistance;
+        
+        ensureColCapacity(length2 + 1);
+        
+        //Place the column arrays in local variables so they can be rotated without modifying the fields
+        int[] ancestorCol = ancestorMatrixCol;
+        int[] previousCol = previousMatrixCol;
+        int[] currentCol = currentMatrixCol;
+        /////
+        
+        for(int j = 0; j <= length2; j++) previousCol[j] = Math.min(j, tooFarEditDistance);
+
+        for(int i = 0; i < length1; i++)
+        {
+            //Determine the bounds of the band of cells in the current column that are to be computed
+            int bandStart = Math.max(1, i + 1 - bandRadius);
+            int bandEnd = Math.min(length2, i + 1 + bandRadius);
+            /////
+            
+            //Set the cell above the band, either to the edit distance between the first (i + 1) chars of the 
+            //first segment and the empty sequence (if it is in the first row) or to tooFarEditDistance (if it is outside the band)
+            currentCol[bandStart - 1] = (bandStart == 1 ? Math.min(i + 1, tooFarEditDistance) : tooFarEditDistance);
+            int minColValue = currentCol[bandStart - 1];
+            
+            char char1 = chars1[offset1 + i];
+            char previousChar1 = (i > 0 ? chars1[offset1 + i - 1] : 0);
+            
+            for(int j = bandStart; j <= bandEnd; j++)
+            {
+                char char2 = chars2[offset2 + j - 1];
+                int curCharEditDistance = (char1 == char2 ? 0 : 1);
+                
+                //Determine the smallest cost among those associated with a deletion, insertion and substitution
+                int minEditOperationCost = Math.min(currentCol[j - 1] + 1, previousCol[j] + 1);
+                minEditOperationCost = Math.min(minEditOperationCost, previousCol[j - 1] + curCharEditDistance);
+                /////
+                
+                if(i > 0 && j > 1 && char1 == chars2[offset2 + j - 2] && previousChar1 == char2)
+                    minEditOperationCost = Math.min(minEditOperationCost, ancestorCol[j - 2] + curCharEditDistance);
+                
+                //Cap the cost so that all the costs greater than maxEditDistance are equal
+                currentCol[j] = Math.min(minEditOperationCost, tooFarEditDistance);
+                minColValue = Math.min(minColValue, currentCol[j]);
+            }
+            
+            //Set the cell below the band, which the next column will read as its diagonal neighbor
+            if(bandEnd < length2) currentCol[bandEnd + 1] = tooFarEditDistance;
+            
+            //Cell values never decrease along a path through the matrix, so if all the cells in 
+            //the current column exceed maxEditDistance, so will the edit distance of the segments
+            if(minColValue > maxEditDistance) return tooFarEditDistance;
+            
+            //Rotate the column arrays, priming them for the next iteration
+            int[] recycledCol = ancestorCol;
+            ancestorCol = previousCol;
+            previousCol = currentCol;
+            currentCol = recycledCol;
+            /////
+        }
+        
+        return previousCol[length2];
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+
+
+/**
+ * A RecursiveTask which searches the Strings of a Spliterator for those within a given 
+ * edit distance of a particular String, splitting the Spliterator among subtasks while it is large.
+ 
+ * @author Kevin
+ */
+class FuzzySearchTask extends RecursiveTask<ArrayList<String>>
+{
+    private static final long serialVersionUID = 1L;
+    
+    //The number of Strings below which a task processes its Strings itself rather than splitting them among subtasks
+    private static final int SPLIT_THRESHOLD = 2048;
+    
+    private final int maxEditDistance;
+    
+    //The DistanceKernel of the String of interest (shared by all the tasks of a search)
+    private final DistanceKernel distanceKernel;
+    
+    //The Spliterator containing the Strings to be processed by this task
+    private final Spliterator<String> strSpliterator;
+    
+    
+    
+    /**
+     * Constructs a FuzzySearchTask.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in {@code strSpliterator} with the String of interest
+     * @param distanceKernel        the DistanceKernel of the String that all edit-distance calculations are to be carried out in relation to
+     * @param strSpliterator        a Spliterator containing the Strings to be processed
+     */
+    FuzzySearchTask(int maxEditDistance, DistanceKernel distanceKernel, Spliterator<String> strSpliterator)
+    {
+        this.maxEditDistance = maxEditDistance;
+        this.distanceKernel = distanceKernel;
+        this.strSpliterator = strSpliterator;
+    }
+    
+    
+    
+    /**
+     * Searches this task's Strings for those within maxEditDistance of the String of interest.
+     
+     * @return      an ArrayList containing, in encounter order, the Strings of this task's 
+     *              Spliterator that are at most maxEditDistance away from the String of interest
+     */
+    @Override
+    protected ArrayList<String> compute()
+    {
+        Spliterator<String> prefixSpliterator = (strSpliterator.estimateSize() > SPLIT_THRESHOLD ? strSpliterator.trySplit() : null);
+        
+        if(prefixSpliterator != null)
+        {
+            //Process the split-off prefix of the Strings in a forked subtask while processing 
+            //the remaining Strings in this thread, concatenating the results in encounter order
+            FuzzySearchTask prefixTask = new FuzzySearchTask(maxEditDistance, distanceKernel, prefixSpliterator);
+            prefixTask.fork();
+            
+            ArrayList<String> suffixResultArrayList = new FuzzySearchTask(maxEditDistance, distanceKernel, strSpliterator).compute();
+            ArrayList<String> resultArrayList = prefixTask.join();
+            resultArrayList.addAll(suffixResultArrayList);
+            /////
+            
+            return resultArrayList;
+        }
+        else
+        {
+            final ArrayList<String> resultArrayList = new ArrayList<String>();
+            final int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+            
+            strSpliterator.forEachRemaining(new Consumer<String>()
+            {
+                @Override
+                public void accept(String currentString)
+                {
+                    if(distanceKernel.distance(currentString, maxEditDistance, histogramScratchArray) <= maxEditDistance)
+                        resultArrayList.add(currentString);
+                }
+            });
+            
+            return resultArrayList;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+
+/**
+ * A holder of the current version of a dictionary which may be replaced while it is being searched.
+ * 
+ * Each published dictionary is wrapped in a reference-counted {@link Snapshot} and published through an atomic reference.
+ * A search acquires the current snapshot, searches its dictionary, and releases it; a search in progress when a new 
+ * dictionary is published keeps searching the snapshot it acquired, while searches begun afterwards acquire the new one.
+ * Once a snapshot has been replaced and all the searches that acquired it have released it, the holder's 
+ * {@link DictionaryReleaseListener} (if any) is notified. No operation of the holder takes a lock.
+ * 
+ * Published dictionaries must not be modified (an MDAG, for instance, should be rebuilt rather than added to,
+ * and the new MDAG published wrapped in an {@link MDAGDictionary}).
+ 
+ * @author Kevin
+ */
+public final class FuzzySearchableDictionaryHolder
+{
+    //The snapshot of the current dictionary
+    private final AtomicReference<Snapshot> currentSnapshotReference;
+    
+    //The listener notified of released dictionaries (null if there is none)
+    private final DictionaryReleaseListener releaseListener;
+    
+    
+    
+    /**
+     * Constructs a FuzzySearchableDictionaryHolder.
+     
+     * @param dictionary            the FuzzySearchableDictionary to be searched until another is published
+     * @param releaseListener       a DictionaryReleaseListener to be notified when each dictionary is 
+     *                              no longer in use (or null, if there is none)
+     */
+    public FuzzySearchableDictionaryHolder(FuzzySearchableDictionary dictionary, DictionaryReleaseListener releaseListener)
+    {
+        this.releaseListener = releaseListener;
+        currentSnapshotReference = new AtomicReference<Snapshot>(new Snapshot(dictionary));
+    }
+    
+    
+    
+    /**
+     * Publishes a new dictionary, which all subsequently begun searches will be carried out on.
+     
+     * @param dictionary        the FuzzySearchableDictionary to replace the current one with
+     */
+    public void publish(FuzzySearchableDictionary dictionary)
+    {
+        //Give up the holder's reference to the replaced snapshot; it is released once its last reader releases it as well
+        currentSnapshotReference.getAndSet(new Snapshot(dictionary)).release();
+    }
+    
+    
+    
+    /**
+     * Acquires the snapshot of the current dictionary. The snapshot must be released (exactly once) when it is no longer needed.
+     
+     * @return      the Snapshot of the current dictionary
+     */
+    public Snapshot acquire()
+    {
+        //Retry if the snapshot was both replaced and fully released between it being read and retained
+        while(true)
+        {
+            Snapshot currentSnapshot = currentSnapshotReference.get();
+            if(currentSnapshot.tryRetain()) return currentSnapshot;
+        }
+    }
+    
+    
+    
+    /**
+     * Searches the current dictionary via table for all the Strings that are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the dictionary with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing all the Strings in the current dictionary 
+     *                              that are at most {@code maxEditDistance} away from {@code automatonString}
+     */
+    public LinkedList<String> tableFuzzySearch(int maxEditDistance, String automatonString)
+    {
+        Snapshot snapshot = acquire();
+        
+        try
+        {
+            return LevenshteinAutomaton.tableFuzzySearch(maxEditDistance, automatonString, snapshot.getDictionary());
+        }
+        finally
+        {
+            snapshot.release();
+        }
+    }
+    
+    
+    
+    /**
+     * Searches the current dictionary via automaton traversal for all the Strings that are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the dictionary with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing all the Strings in the current dictionary 
+     *                              that are at most {@code maxEditDistance} away from {@code automatonString}
+     */
+    public LinkedList<String> iterativeFuzzySearch(int maxEditDistance, String automatonString)
+    {
+        Snapshot snapshot = acquire();
+        
+        try
+        {
+            return LevenshteinAutomaton.iterativeFuzzySearch(maxEditDistance, automatonString, snapshot.getDictionary());
+        }
+        finally
+        {
+            snapshot.release();
+        }
+    }
+    
+    
+    
+    /**
+     * Searches the current dictionary via dynamic programming for all the Strings that are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the dictionary with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing all the Strings in the current dictionary 
+     *                              that are at most {@code maxEditDistance} away from {@code automatonString}
+     */
+    public LinkedList<String> dynamicProgrammingFuzzySearch(int maxEditDistance, String automatonString)
+    {
+        Snapshot snapshot = acquire();
+        
+        try
+        {
+            return LevenshteinAutomaton.dynamicProgrammingFuzzySearch(maxEditDistance, automatonString, snapshot.getDictionary());
+        }
+        finally
+        {
+            snapshot.release();
+        }
+    }
+    
+    
+    
+    /**
+     * Determines if the current dictionary contains a String that is within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the dictionary with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      true if the current dictionary contains a String that is at most 
+     *                              {@code maxEditDistance} away from {@code automatonString}; false otherwise
+     */
+    public boolean anyMatch(int maxEditDistance, String automatonString)
+    {
+        Snapshot snapshot = acquire();
+        
+        try
+        {
+            return LevenshteinAutomaton.anyMatch(maxEditDistance, automatonString, snapshot.getDictionary());
+        }
+        finally
+        {
+            snapshot.release();
+        }
+    }
+    
+    
+    
+    /**
+     * Counts the Strings in the current dictionary that are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in the dictionary with the String of interest
+     * @param automatonString       the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      an int of the number of Strings in the current dictionary 
+     *                              that are at most {@code maxEditDistance} away from {@code automatonString}
+     */
+    public int countMatches(int maxEditDistance, String automatonString)
+    {
+        Snapshot snapshot = acquire();
+        
+        try
+        {
+            return LevenshteinAutomaton.countMatches(maxEditDistance, automatonString, snapshot.getDictionary());
+        }
+        finally
+        {
+            snapshot.release();
+        }
+    }
+    
+    
+    
+    /**
+     * A reference-counted version of the dictionary of a FuzzySearchableDictionaryHolder. The holder owns one 
+     * reference to the snapshot until it is replaced, and each acquisition of the snapshot owns another.
+     */
+    public final class Snapshot
+    {
+        //The dictionary of this snapshot
+        private final FuzzySearchableDictionary dictionary;
+        
+        //The number of references to this snapshot. Once it reaches 0 it can never be retained again
+        private final AtomicInteger referenceCount = new AtomicInteger(1);
+        
+        
+        
+        private Snapshot(FuzzySearchableDictionary dictionary)
+        {
+            this.dictionary = dictionary;
+        }
+        
+        
+        
+        /**
+         * Retrieves the dictionary of this snapshot.
+         
+         * @return      the FuzzySearchableDictionary of this snapshot
+         */
+        public FuzzySearchableDictionary getDictionary()
+        {
+            return dictionary;
+        }
+        
+        
+        
+        /**
+         * Adds a reference to this snapshot, provided it has not already been fully released.
+         
+         * @return      true if a reference was added; false if this snapshot has been fully released
+         */
+        private boolean tryRetain()
+        {
+            while(true)
+            {
+                int currentReferenceCount = referenceCount.get();
+                
+                if(currentReferenceCount == 0) return false;
+                else if(referenceCount.compareAndSet(currentReferenceCount, currentReferenceCount + 1)) return true;
+            }
+        }
+        
+        
+        
+        /**
+         * Releases a reference to this snapshot, notifying the holder's DictionaryReleaseListener if it was the last one.
+         */
+        public void release()
+        {
+            int newReferenceCount = referenceCount.decrementAndGet();
+            
+            if(newReferenceCount == 0 && releaseListener != null) 
+                releaseListener.dictionaryReleased(dictionary);
+            else if(newReferenceCount < 0)
+                throw new IllegalStateException("Snapshot released more times than it was acquired");
+        }
+    }
+}
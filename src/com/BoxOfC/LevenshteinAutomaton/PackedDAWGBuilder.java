@@ -0,0 +1,581 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+
+
+
+/**
+ * Builds a {@link PackedDAWGDictionary} from Strings supplied in ascending (natural) order, minimizing the graph 
+ * incrementally as they are added (using the algorithm of Daciuk et al.).
+ * 
+ * Only the nodes on the path of the last added String are held in mutable form. When a String is added, the nodes
+ * of the previous String's path that are not shared with it can no longer change, and are frozen: each is looked up in
+ * a register of the frozen nodes, and replaced by its equivalent there if one exists, or appended to the packed node
+ * arrays (and the register) otherwise. The register is an open-addressing hash table of node indices whose entries
+ * are compared against the packed arrays themselves, so memory use is proportional to the size of the minimized graph,
+ * rather than to that of the Strings added. Strings can therefore be streamed in (from an Iterator or a line file) and
+ * the finished graph written directly to a file that can be mapped by a {@link MappedDAWGDictionary}.
+ 
+ * @author Kevin
+ */
+public final class PackedDAWGBuilder
+{
+    //Arrays containing the labels and targets of the transitions of the frozen nodes, and the number of transitions in them
+    private char[] transitionLabelArray = new char[16];
+    private int[] transitionTargetArray = new int[16];
+    private int transitionCount;
+    /////
+    
+    //Array whose element i contains the index of the first transition of frozen node i (the transitions of
+    //a node end where those of the next begin), and the number of frozen nodes
+    private int[] nodeTransitionStartArray = new int[16];
+    private int nodeCount;
+    /////
+    
+    //Bit set denoting which of the frozen nodes are accept nodes
+    private long[] acceptNodeBitArray = new long[1];
+    
+    //Open-addressing hash table containing the indices of the frozen nodes (-1 denoting an empty slot)
+    private int[] registerArray = createEmptyRegisterArray(16);
+    
+    //Array whose element d contains the label of the transition leading from the path node at depth d to that at depth d + 1 
+    //(that is, the chars of the last added String), and the depth of the deepest path node (the length of the last added String)
+    private char[] pathLabelArray = new char[16];
+    private int pathLength;
+    /////
+    
+    //Arrays containing the accept status of each path node, and the labels, targets and number of its transitions to frozen nodes
+    private boolean[] pathAcceptArray = new boolean[17];
+    private char[][] pathChildLabelArrayArray = new char[17][];
+    private int[][] pathChildTargetArrayArray = new int[17][];
+    private int[] pathChildCountArray = new int[17];
+    /////
+    
+    //The number of distinct Strings added to this builder
+    private long stringCount;
+    
+    //The index of the source node, or -1 if the graph has not yet been finished
+    private int sourceNode = -1;
+    
+    //The listener notified of this builder's progress (if any), and the number of Strings added between notifications
+    private final DAWGBuildProgressListener progressListener;
+    private final long progressInterval;
+    /////
+    
+    
+    
+    /**
+     * Constructs an empty PackedDAWGBuilder.
+     */
+    public PackedDAWGBuilder()
+    {
+        this(null, 1);
+    }
+    
+    
+    
+    /**
+     * Constructs an empty PackedDAWGBuilder which reports its progress to a listener.
+     
+     * @param progressListener      a DAWGBuildProgressListener which will be notified after every {@code progressInterval}
+     *                              distinct Strings are added, and when the graph is finished (or null, if there is none)
+     * @param progressInterval      a positive long of the number of distinct Strings to be added between notifications
+     */
+    public PackedDAWGBuilder(DAWGBuildProgressListener progressListener, long progressInterval)
+    {
+        if(progressInterval < 1) throw new IllegalArgumentException("progressInterval must be positive");
+        
+        this.progressListener = progressListener;
+        this.progressInterval = progressInterval;
+    }
+    
+    
+    
+    /**
+     * Creates an empty register.
+     
+     * @param size      an int of the number of slots in the register (a power of 2)
+     * @return          an int array of {@code size} elements, each of which is -1
+     */
+    private static int[] createEmptyRegisterArray(int size)
+    {
+        int[] registerArray = new int[size];
+        Arrays.fill(registerArray, -1);
+        return registerArray;
+    }
+    
+    
+    
+    /**
+     * Adds a String to the graph. Strings must be added in ascending order; a String 
+     * equal to the last one added is ignored.
+     
+     * @param str       a CharSequence
+     * @return          true if {@code str} was added; false if it is equal to the last String added
+     * @throws IllegalArgumentException     if {@code str} precedes the last String added
+     * @throws IllegalStateException        if the graph has already been finished
+     */
+    public boolean add(CharSequence str)
+    {
+        if(sourceNode != -1) throw new IllegalStateException("The graph has already been finished");
+        
+        int strLength = str.length();
+        
+        //Determine the length of the prefix str shares with the last added String
+        int prefixLength = 0;
+        int maxPrefixLength = Math.min(strLength, pathLength);
+        while(prefixLength < maxPrefixLength && str.charAt(prefixLength) == pathLabelArray[prefixLength]) prefixLength++;
+        /////
+        
+        if(stringCount > 0)
+        {
+            if(prefixLength == strLength && prefixLength == pathLength) 
+                return false;
+            else if(prefixLength == strLength || (prefixLength < pathLength && str.charAt(prefixLength) < pathLabelArray[prefixLength]))
+                throw new IllegalArgumentException("Strings must be added in ascending order: \"" + str + "\" precedes the last String added");
+        }
+        
+        //Freeze the path nodes which str does not lead through, then extend the path with the remaining chars of str
+        freezePath(prefixLength);
+        ensurePathCapacity(strLength);
+        
+        for(int depth = prefixLength + 1; depth <= strLength; depth++)
+        {
+            pathLabelArray[depth - 1] = str.charAt(depth - 1);
+            pathAcceptArray[depth] = false;
+            pathChildCountArray[depth] = 0;
+        }
+        
+        pathLength = strLength;
+        pathAcceptArray[strLength] = true;
+        /////
+        
+        stringCount++;
+        if(progressListener != null && stringCount % progressInterval == 0) progressListener.progressMade(stringCount, nodeCount, transitionCount, false);
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * Adds the Strings supplied by an Iterator to the graph, in the manner of {@link #add(CharSequence)}.
+     
+     * @param sortedStrIterator     an Iterator which supplies Strings in ascending order
+     * @return                      a long of the number of Strings added (excluding those equal to their predecessors)
+     * @throws IllegalArgumentException     if a String supplied by {@code sortedStrIterator} precedes its predecessor
+     * @throws IllegalStateException        if the graph has already been finished
+     */
+    public long addAll(Iterator<? extends CharSequence> sortedStrIterator)
+    {
+        long addedStringCount = 0;
+        while(sortedStrIterator.hasNext())
+        {
+            if(add(sortedStrIterator.next())) addedStringCount++;
+        }
+        
+        return addedStringCount;
+    }
+    
+    
+    
+    /**
+     * Adds the lines of a file to the graph, in the manner of {@link #add(CharSequence)}. 
+     * The file may be gzip-compressed, which is detected from its contents.
+     
+     * @param sortedStrFile     a File containing Strings, one per line and sorted in ascending order
+     * @param charset           the Charset that the (decompressed) contents of {@code sortedStrFile} are encoded in
+     * @return                  a long of the number of Strings added (excluding those equal to their predecessors)
+     * @throws IOException                  if {@code sortedStrFile} cannot be read
+     * @throws IllegalArgumentException     if a line of {@code sortedStrFile} precedes the line before it
+     * @throws IllegalStateException        if the graph has already been finished
+     */
+    public long addAll(File sortedStrFile, Charset charset) throws IOException
+    {
+        InputStream inputStream = new BufferedInputStream(new FileInputStream(sortedStrFile), 1 << 16);
+        
+        try
+        {
+            //Check for the two-byte magic number that gzip streams begin with
+            inputStream.mark(2);
+            boolean isGzipped = (inputStream.read() == 0x1f && inputStream.read() == 0x8b);
+            inputStream.reset();
+            
+            if(isGzipped) inputStream = new GZIPInputStream(inputStream, 1 << 16);
+            /////
+            
+            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, charset), 1 << 16);
+            
+            long addedStringCount = 0;
+            String currentLine;
+            while((currentLine = bufferedReader.readLine()) != null)
+            {
+                if(add(currentLine)) addedStringCount++;
+            }
+            
+            return addedStringCount;
+        }
+        finally
+        {
+            inputStream.close();
+        }
+    }
+    
+    
+    
+    /**
+     * Finishes the graph, freezing all of the path nodes. No Strings can be added afterwards.
+     */
+    public void finish()
+    {
+        if(sourceNode == -1)
+        {
+            freezePath(0);
+            sourceNode = freezeNode(0);
+            
+            if(progressListener != null) progressListener.progressMade(stringCount, nodeCount, transitionCount, true);
+        }
+    }
+    
+    
+    
+    /**
+     * Finishes the graph (if it has not been already) and creates the PackedDAWGDictionary it represents.
+     
+     * @return      a PackedDAWGDictionary containing the Strings added to this builder
+     */
+    public PackedDAWGDictionary build()
+    {
+        finish();
+        return new PackedDAWGDictionary(this);
+    }
+    
+    
+    
+    /**
+     * Finishes the graph (if it has not been already) and writes the dictionary it represents to a file
+     * which can be mapped in to memory by a {@link MappedDAWGDictionary}.
+     
+     * @param file              the File to write the dictionary to
+     * @throws IOException      if an I/O error occurs while writing to {@code file}
+     */
+    public void write(File file) throws IOException
+    {
+        finish();
+        MappedDAWGDictionary.write(file, transitionLabelArray, transitionTargetArray, transitionCount, 
+                                    nodeTransitionStartArray, acceptNodeBitArray, nodeCount, sourceNode, stringCount);
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of distinct Strings added to this builder.
+     
+     * @return      a long of the number of distinct Strings added to this builder
+     */
+    public long getStringCount()
+    {
+        return stringCount;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of nodes frozen so far (all of the nodes in the graph, once it has been finished).
+     
+     * @return      an int of the number of frozen nodes
+     */
+    public int getNodeCount()
+    {
+        return nodeCount;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of transitions of the nodes frozen so far.
+     
+     * @return      an int of the number of transitions of the frozen nodes
+     */
+    public int getTransitionCount()
+    {
+        return transitionCount;
+    }
+    
+    
+    
+    /**
+     * Freezes the path nodes deeper than a given depth, making each a child of the path node above it.
+     
+     * @param depth     an int of the depth of the deepest path node to remain unfrozen
+     */
+    private void freezePath(int depth)
+    {
+        for(int currentDepth = pathLength; currentDepth > depth; currentDepth--)
+        {
+            int frozenNode = freezeNode(currentDepth);
+            
+            int parentDepth = currentDepth - 1;
+            int childCount = pathChildCountArray[parentDepth];
+            
+            if(pathChildLabelArrayArray[parentDepth] == null)
+            {
+                pathChildLabelArrayArray[parentDepth] = new char[4];
+                pathChildTargetArrayArray[parentDepth] = new int[4];
+            }
+            else if(childCount == pathChildLabelArrayArray[parentDepth].length)
+            {
+                pathChildLabelArrayArray[parentDepth] = Arrays.copyOf(pathChildLabelArrayArray[parentDepth], 2 * childCount);
+                pathChildTargetArrayArray[parentDepth] = Arrays.copyOf(pathChildTargetArrayArray[parentDepth], 2 * childCount);
+            }
+            
+            pathChildLabelArrayArray[parentDepth][childCount] = pathLabelArray[parentDepth];
+            pathChildTargetArrayArray[parentDepth][childCount] = frozenNode;
+            pathChildCountArray[parentDepth] = childCount + 1;
+        }
+        
+        pathLength = Math.min(pathLength, depth);
+    }
+    
+    
+    
+    /**
+     * Ensures the path arrays can accommodate a path of a given length.
+     
+     * @param length        an int of the length of the path of interest
+     */
+    private void ensurePathCapacity(int length)
+    {
+        if(length >= pathAcceptArray.length)
+        {
+            int newCapacity = Math.max(length + 1, 2 * pathAcceptArray.length);
+            
+            pathLabelArray = Arrays.copyOf(pathLabelArray, newCapacity);
+            pathAcceptArray = Arrays.copyOf(pathAcceptArray, newCapacity);
+            pathChildLabelArrayArray = Arrays.copyOf(pathChildLabelArrayArray, newCapacity);
+            pathChildTargetArrayArray = Arrays.copyOf(pathChildTargetArrayArray, newCapacity);
+            pathChildCountArray = Arrays.copyOf(pathChildCountArray, newCapacity);
+        }
+    }
+    
+    
+    
+    /**
+     * Computes the hash of a node from its accept status and transitions.
+     
+     * @param isAcceptNode      true if the node is an accept node; false otherwise
+     * @param labelArray        a char array containing the labels of the node's transitions
+     * @param targetArray       an int array containing the targets of the node's transitions
+     * @param offset            an int of the index in {@code labelArray} and {@code targetArray} of the node's first transition
+     * @param count             an int of the number of transitions of the node
+     * @return                  an int of the hash of the node
+     */
+    private static int hashNode(boolean isAcceptNode, char[] labelArray, int[] targetArray, int offset, int count)
+    {
+        int hash = (isAcceptNode ? 1 : 0);
+        for(int i = offset; i < offset + count; i++) hash = 31 * (31 * hash + labelArray[i]) + targetArray[i];
+        
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        
+        return hash;
+    }
+    
+    
+    
+    /**
+     * Freezes a path node, replacing it with its equivalent in the register if one exists.
+     
+     * @param depth     an int of the depth of the path node to freeze
+     * @return          an int of the index of the frozen node equivalent to the path node at {@code depth}
+     */
+    private int freezeNode(int depth)
+    {
+        boolean isAcceptNode = pathAcceptArray[depth];
+        char[] childLabelArray = pathChildLabelArrayArray[depth];
+        int[] childTargetArray = pathChildTargetArrayArray[depth];
+        int childCount = pathChildCountArray[depth];
+        
+        //Look for an equivalent node in the register, stopping at the first empty slot of the node's probe sequence
+        int mask = registerArray.length - 1;
+        int slot = hashNode(isAcceptNode, childLabelArray, childTargetArray, 0, childCount) & mask;
+        
+        for(; registerArray[slot] != -1; slot = (slot + 1) & mask)
+        {
+            int registeredNode = registerArray[slot];
+            int transitionStart = nodeTransitionStartArray[registeredNode];
+            
+            if(isAcceptNode == isAcceptNode(registeredNode) && childCount == nodeTransitionStartArray[registeredNode + 1] - transitionStart)
+            {
+                int i = 0;
+                while(i < childCount && childLabelArray[i] == transitionLabelArray[transitionStart + i] 
+                        && childTargetArray[i] == transitionTargetArray[transitionStart + i]) i++;
+                
+                if(i == childCount) return registeredNode;
+            }
+        }
+        /////
+        
+        //Append the node to the packed arrays and register it
+        if(transitionCount + childCount > transitionLabelArray.length)
+        {
+            int newCapacity = Math.max(transitionCount + childCount, 2 * transitionLabelArray.length);
+            transitionLabelArray = Arrays.copyOf(transitionLabelArray, newCapacity);
+            transitionTargetArray = Arrays.copyOf(transitionTargetArray, newCapacity);
+        }
+        
+        if(nodeCount + 2 > nodeTransitionStartArray.length) 
+            nodeTransitionStartArray = Arrays.copyOf(nodeTransitionStartArray, 2 * nodeTransitionStartArray.length);
+        
+        if((nodeCount >>> 6) >= acceptNodeBitArray.length) 
+            acceptNodeBitArray = Arrays.copyOf(acceptNodeBitArray, 2 * acceptNodeBitArray.length);
+        
+        if(childCount > 0)
+        {
+            System.arraycopy(childLabelArray, 0, transitionLabelArray, transitionCount, childCount);
+            System.arraycopy(childTargetArray, 0, transitionTargetArray, transitionCount, childCount);
+            transitionCount += childCount;
+        }
+        
+        if(isAcceptNode) acceptNodeBitArray[nodeCount >>> 6] |= (1L << nodeCount);
+        
+        int frozenNode = nodeCount++;
+        nodeTransitionStartArray[nodeCount] = transitionCount;
+        registerArray[slot] = frozenNode;
+        /////
+        
+        if(2 * nodeCount > registerArray.length) growRegister();
+        
+        return frozenNode;
+    }
+    
+    
+    
+    /**
+     * Doubles the size of the register, re-inserting the frozen nodes.
+     */
+    private void growRegister()
+    {
+        registerArray = createEmptyRegisterArray(2 * registerArray.length);
+        int mask = registerArray.length - 1;
+        
+        for(int node = 0; node < nodeCount; node++)
+        {
+            int transitionStart = nodeTransitionStartArray[node];
+            int slot = hashNode(isAcceptNode(node), transitionLabelArray, transitionTargetArray, 
+                                transitionStart, nodeTransitionStartArray[node + 1] - transitionStart) & mask;
+            
+            while(registerArray[slot] != -1) slot = (slot + 1) & mask;
+            registerArray[slot] = node;
+        }
+    }
+    
+    
+    
+    /**
+     * Determines if a frozen node is an accept node.
+     
+     * @param node      an int of the index of a frozen node
+     * @return          true if {@code node} is an accept node; false otherwise
+     */
+    private boolean isAcceptNode(int node)
+    {
+        return ((acceptNodeBitArray[node >>> 6] & (1L << node)) != 0);
+    }
+    
+    
+    
+    /**
+     * Retrieves a copy of the transition labels of the finished graph.
+     
+     * @return      a char array containing the label of each transition
+     */
+    char[] getTransitionLabelArray()
+    {
+        return Arrays.copyOf(transitionLabelArray, transitionCount);
+    }
+    
+    
+    
+    /**
+     * Retrieves a copy of the transition targets of the finished graph.
+     
+     * @return      an int array containing the index of the target node of each transition
+     */
+    int[] getTransitionTargetArray()
+    {
+        return Arrays.copyOf(transitionTargetArray, transitionCount);
+    }
+    
+    
+    
+    /**
+     * Retrieves a copy of the transition starts of the nodes of the finished graph.
+     
+     * @return      an int array whose element i contains the index of the first transition of node i, 
+     *              and whose last element contains the number of transitions
+     */
+    int[] getNodeTransitionStartArray()
+    {
+        return Arrays.copyOf(nodeTransitionStartArray, nodeCount + 1);
+    }
+    
+    
+    
+    /**
+     * Retrieves a copy of the accept node bit set of the finished graph.
+     
+     * @return      a long array whose bit i (bit i % 64 of element i / 64) is set if and only if node i is an accept node
+     */
+    long[] getAcceptNodeBitArray()
+    {
+        return Arrays.copyOf(acceptNodeBitArray, (nodeCount + 63) >>> 6);
+    }
+    
+    
+    
+    /**
+     * Retrieves the index of the source node of the finished graph.
+     
+     * @return      an int of the index of the source node, or -1 if the graph has not been finished
+     */
+    int getSourceNode()
+    {
+        return sourceNode;
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+
+
+/**
+ * An immutable {@link FuzzySearchableDictionary} backed by a minimized DAWG packed in to flat arrays.
+ * 
+ * The nodes are numbered, and the transitions of each are stored contiguously, in ascending order of label,
+ * in a char array of labels and an int array of target nodes; an int array contains the index of each node's
+ * first transition, and a bit set denotes the accept nodes. A transition on a given char is found by indexing 
+ * directly in to a node's transitions if their labels form a contiguous range, and by binary search otherwise.
+ 
+ * @author Kevin
+ */
+public final class PackedDAWGDictionary implements FuzzySearchableDictionary
+{
+    //Arrays containing the label and target node of each transition
+    private final char[] transitionLabelArray;
+    private final int[] transitionTargetArray;
+    /////
+    
+    //Array whose element i contains the index of the first transition of node i (the 
+    //transitions of a node end where those of the next begin; the last element is their number)
+    private final int[] nodeTransitionStartArray;
+    
+    //Bit set denoting which of the nodes are accept nodes
+    private final long[] acceptNodeBitArray;
+    
+    //The index of the node that all transition paths start from
+    private final int sourceNode;
+    
+    //The number of Strings in this dictionary
+    private final long stringCount;
+    
+    
+    
+    /**
+     * Constructs a PackedDAWGDictionary containing the Strings in a Collection.
+     
+     * @param strCollection     a Collection of Strings
+     */
+    public PackedDAWGDictionary(Collection<String> strCollection)
+    {
+        this(createBuilder(strCollection));
+    }
+    
+    
+    
+    /**
+     * Constructs a PackedDAWGDictionary from the graph of a finished PackedDAWGBuilder.
+     
+     * @param builder       a PackedDAWGBuilder whose graph has been finished
+     */
+    PackedDAWGDictionary(PackedDAWGBuilder builder)
+    {
+        transitionLabelArray = builder.getTransitionLabelArray();
+        transitionTargetArray = builder.getTransitionTargetArray();
+        nodeTransitionStartArray = builder.getNodeTransitionStartArray();
+        acceptNodeBitArray = builder.getAcceptNodeBitArray();
+        sourceNode = builder.getSourceNode();
+        stringCount = builder.getStringCount();
+    }
+    
+    
+    
+    /**
+     * Creates a finished PackedDAWGBuilder containing the Strings in a Collection.
+     
+     * @param strCollection     a Collection of Strings
+     * @return                  a finished PackedDAWGBuilder whose graph contains the Strings in {@code strCollection}
+     */
+    private static PackedDAWGBuilder createBuilder(Collection<String> strCollection)
+    {
+        String[] sortedStrArray = strCollection.toArray(new String[strCollection.size()]);
+        Arrays.sort(sortedStrArray);
+        
+        PackedDAWGBuilder builder = new PackedDAWGBuilder();
+        for(String str : sortedStrArray) builder.add(str);
+        
+        builder.finish();
+        return builder;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this dictionary.
+     
+     * @return      a long of the number of Strings in this dictionary
+     */
+    public long getStringCount()
+    {
+        return stringCount;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of nodes in this dictionary's graph.
+     
+     * @return      an int of the number of nodes in this dictionary's graph
+     */
+    public int getNodeCount()
+    {
+        return nodeTransitionStartArray.length - 1;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of transitions in this dictionary's graph.
+     
+     * @return      an int of the number of transitions in this dictionary's graph
+     */
+    public int getTransitionCount()
+    {
+        return transitionLabelArray.length;
+    }
+    
+    
+    
+    /**
+     * Determines the amount of memory occupied by the arrays of this dictionary's graph.
+     
+     * @return      a long of the number of bytes occupied by the transition, node and accept node arrays of this dictionary
+     */
+    public long getByteCount()
+    {
+        return 2L * transitionLabelArray.length + 4L * transitionTargetArray.length + 4L * nodeTransitionStartArray.length + 8L * acceptNodeBitArray.length;
+    }
+    
+    
+    
+    /**
+     * Writes this dictionary to a file which can be mapped in to memory by a {@link MappedDAWGDictionary}.
+     
+     * @param file              the File to write this dictionary to
+     * @throws IOException      if an I/O error occurs while writing to {@code file}
+     */
+    public void write(File file) throws IOException
+    {
+        MappedDAWGDictionary.write(file, transitionLabelArray, transitionTargetArray, transitionLabelArray.length, 
+                                    nodeTransitionStartArray, acceptNodeBitArray, getNodeCount(), sourceNode, stringCount);
+    }
+    
+    
+    
+    /**
+     * Determines if a String is contained in this PackedDAWGDictionary.
+     
+     * @param str       a String
+     * @return          true if {@code str} is in this dictionary; false otherwise
+     */
+    public boolean contains(String str)
+    {
+        int currentNode = sourceNode;
+        
+        int strLength = str.length();
+        for(int i = 0; i < strLength && currentNode != -1; i++)
+        {
+            int transitionIndex = findTransition(currentNode, str.charAt(i));
+            currentNode = (transitionIndex != -1 ? transitionTargetArray[transitionIndex] : -1);
+        }
+        
+        return (currentNode != -1 && isAcceptNode(currentNode));
+    }
+    
+    
+    
+    /**
+     * Determines if a node is an accept node.
+     
+     * @param node      an int of the index of a node
+     * @return          true if {@code node} is an accept node; false otherwise
+     */
+    private boolean isAcceptNode(int node)
+    {
+        return ((acceptNodeBitArray[node >>> 6] & (1L << node)) != 0);
+    }
+    
+    
+    
+    /**
+     * Finds the outgoing transition of a node that is labeled by a given char.
+     
+     * @param node          an int of the index of a node
+     * @param letter        a char
+     * @return              an int of the index of the transition of {@code node} labeled by {@code letter}, or -1 if none exists
+     */
+    private int findTransition(int node, char letter)
+    {
+        int transitionStart = nodeTransitionStartArray[node];
+        int transitionEnd = nodeTransitionStartArray[node + 1];
+        if(transitionStart == transitionEnd) return -1;
+        
+        int firstLabel = transitionLabelArray[transitionStart];
+        
+        if(transitionLabelArray[transitionEnd - 1] - firstLabel == transitionEnd - transitionStart - 1)
+        {
+            //The labels form a contiguous range, so the transition (if it exists) is at an offset of (letter - firstLabel)
+            int offset = letter - firstLabel;
+            return (offset >= 0 && offset < transitionEnd - transitionStart ? transitionStart + offset : -1);
+        }
+        else
+        {
+            int transitionIndex = Arrays.binarySearch(transitionLabelArray, transitionStart, transitionEnd, letter);
+            return (transitionIndex >= 0 ? transitionIndex : -1);
+        }
+    }
+    
+    
+    
+    @Override
+    public DictionaryCursor getSourceCursor()
+    {
+        return new Cursor(sourceNode);
+    }
+    
+    
+    
+    /**
+     * A DictionaryCursor positioned at a node of this dictionary's graph.
+     */
+    private final class Cursor implements DictionaryCursor
+    {
+        //The index of the node this Cursor is positioned at, and that of its first transition
+        private int node;
+        private int transitionStart;
+        /////
+        
+        
+        
+        private Cursor(int node)
+        {
+            setNode(node);
+        }
+        
+        
+        
+        /**
+         * Positions this Cursor at a given node.
+         
+         * @param node      an int of the index of a node
+         */
+        private void setNode(int node)
+        {
+            this.node = node;
+            this.transitionStart = nodeTransitionStartArray[node];
+        }
+        
+        
+        
+        @Override
+        public boolean isAcceptNode()
+        {
+            return PackedDAWGDictionary.this.isAcceptNode(node);
+        }
+
+        
+        
+        @Override
+        public int getOutgoingTransitionCount()
+        {
+            return nodeTransitionStartArray[node + 1] - transitionStart;
+        }
+
+        
+        
+        @Override
+        public char getOutgoingTransitionLabel(int transitionIndex)
+        {
+            return transitionLabelArray[transitionStart + transitionIndex];
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex)
+        {
+            return new Cursor(transitionTargetArray[transitionStart + transitionIndex]);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor transition(char letter)
+        {
+            int transitionIndex = findTransition(node, letter);
+            return (transitionIndex != -1 ? new Cursor(transitionTargetArray[transitionIndex]) : null);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor copy()
+        {
+            return new Cursor(node);
+        }
+        
+        
+        
+        @Override
+        public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex)
+        {
+            setNode(transitionTargetArray[((Cursor)parentCursor).transitionStart + transitionIndex]);
+        }
+        
+        
+        
+        @Override
+        public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter)
+        {
+            int transitionIndex = findTransition(((Cursor)parentCursor).node, letter);
+            if(transitionIndex == -1) return false;
+            
+            setNode(transitionTargetArray[transitionIndex]);
+            return true;
+        }
+    }
+}
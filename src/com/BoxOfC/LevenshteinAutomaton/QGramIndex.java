@@ -0,0 +1,474 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+
+
+
+/**
+ * An inverted q-gram index of a collection of Strings, capable of generating the candidates of a fuzzy search with the count filter.
+ * 
+ * Each String is padded with (q - 1) pad chars on both sides, giving a String of length L (L + q - 1) q-grams. An insertion,
+ * deletion or substitution destroys at most q of the q-grams of a String, and a transposition at most (q + 1), so two Strings 
+ * within edit distance n share (counting multiplicity) at least max(L1, L2) + q - 1 - (q + 1) * n q-grams. Only the Strings that
+ * share that many q-grams with the String of interest are verified by computing their edit distance to it.
+ * 
+ * The posting list of each q-gram contains the (ascending) indices of the Strings containing it, each followed by the 
+ * number of times the q-gram occurs in the String. Indices are stored as differences from their predecessors, and 
+ * all numbers are encoded as variable-length sequences of 7-bit groups, keeping the index compact.
+ 
+ * @author Kevin
+ */
+public final class QGramIndex
+{
+    //The char that Strings are padded with on either side
+    private static final char PAD_CHAR = '\uffff';
+    
+    //The length of the q-grams in this index
+    private final int q;
+    
+    //Array containing the indexed Strings
+    private final String[] strArray;
+    
+    //Sorted array of the q-grams in this index (each encoded as a long, see encodeQGram), and the array containing
+    //the offsets of their posting lists in postingByteArray (the list of the q-gram at index i ends where that of i + 1 begins)
+    private final long[] qGramArray;
+    private final int[] postingOffsetArray;
+    /////
+    
+    //Array containing the encoded posting lists of all the q-grams in this index
+    private final byte[] postingByteArray;
+    
+    //Array containing the indices of the Strings sorted by length, along with the array whose element at index i contains
+    //the index in it of the first String with length i (or that of the first longer String, if there are no Strings of length i)
+    private final int[] lengthSortedIndexArray;
+    private final int[] lengthBucketStartArray;
+    /////
+    
+    
+    
+    /**
+     * Constructs a QGramIndex.
+     
+     * @param strCollection     a Collection containing the Strings to be indexed
+     * @param q                 an int of the length of the q-grams to index the Strings by (between 1 and 4, inclusive)
+     */
+    public QGramIndex(Collection<String> strCollection, int q)
+    {
+        if(q < 1 || q > 4) throw new IllegalArgumentException("q must be between 1 and 4");
+        
+        this.q = q;
+        strArray = strCollection.toArray(new String[strCollection.size()]);
+        
+        //Create the posting list of each q-gram, appending the Strings to them in index order
+        HashMap<Long, PostingListBuilder> postingListBuilderHashMap = new HashMap<Long, PostingListBuilder>();
+        int maxLength = 0;
+        
+        for(int i = 0; i < strArray.length; i++)
+        {
+            maxLength = Math.max(maxLength, strArray[i].length());
+            long[] sortedQGramArray = createSortedQGramArray(strArray[i]);
+            
+            for(int j = 0; j < sortedQGramArray.length; )
+            {
+                int runEnd = j;
+                while(runEnd < sortedQGramArray.length && sortedQGramArray[runEnd] == sortedQGramArray[j]) runEnd++;
+                
+                PostingListBuilder postingListBuilder = postingListBuilderHashMap.get(sortedQGramArray[j]);
+                if(postingListBuilder == null) postingListBuilderHashMap.put(sortedQGramArray[j], postingListBuilder = new PostingListBuilder());
+                
+                postingListBuilder.add(i, runEnd - j);
+                j = runEnd;
+            }
+        }
+        /////
+        
+        //Concatenate the posting lists in to a single array, in q-gram order
+        qGramArray = new long[postingListBuilderHashMap.size()];
+        int counter = 0;
+        for(Long qGram : postingListBuilderHashMap.keySet()) qGramArray[counter++] = qGram;
+        Arrays.sort(qGramArray);
+        
+        postingOffsetArray = new int[qGramArray.length + 1];
+        for(int i = 0; i < qGramArray.length; i++)
+            postingOffsetArray[i + 1] = postingOffsetArray[i] + postingListBuilderHashMap.get(qGramArray[i]).size;
+        
+        postingByteArray = new byte[postingOffsetArray[qGramArray.length]];
+        for(int i = 0; i < qGramArray.length; i++)
+        {
+            PostingListBuilder postingListBuilder = postingListBuilderHashMap.get(qGramArray[i]);
+            System.arraycopy(postingListBuilder.byteArray, 0, postingByteArray, postingOffsetArray[i], postingListBuilder.size);
+        }
+        /////
+        
+        //Group the indices of the Strings by length with a counting sort
+        lengthBucketStartArray = new int[maxLength + 2];
+        for(String str : strArray) lengthBucketStartArray[str.length() + 1]++;
+        for(int i = 1; i < lengthBucketStartArray.length; i++) lengthBucketStartArray[i] += lengthBucketStartArray[i - 1];
+        
+        lengthSortedIndexArray = new int[strArray.length];
+        int[] lengthBucketFillArray = Arrays.copyOf(lengthBucketStartArray, lengthBucketStartArray.length);
+        for(int i = 0; i < strArray.length; i++) lengthSortedIndexArray[lengthBucketFillArray[strArray[i].length()]++] = i;
+        /////
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this index.
+     
+     * @return      an int of the number of Strings in this index
+     */
+    public int size()
+    {
+        return strArray.length;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of bytes occupied by the encoded posting lists of this index.
+     
+     * @return      an int of the total size, in bytes, of the posting lists of this index
+     */
+    public int getPostingByteCount()
+    {
+        return postingByteArray.length;
+    }
+    
+    
+    
+    /**
+     * Creates a sorted array of the q-grams of a padded String.
+     
+     * @param str       a String
+     * @return          a sorted long array containing the encoded q-grams of {@code str}, 
+     *                  padded on either side with (q - 1) pad chars
+     */
+    private long[] createSortedQGramArray(String str)
+    {
+        int paddedLength = str.length() + 2 * (q - 1);
+        long[] sortedQGramArray = new long[str.length() + q - 1];
+        
+        for(int i = 0; i < sortedQGramArray.length; i++)
+        {
+            //Encode the q-gram beginning at index i of the padded String, packing its chars in to the long 16 bits at a time
+            long qGram = 0;
+            for(int j = i; j < i + q; j++)
+            {
+                int strIndex = j - (q - 1);
+                char currentChar = (strIndex >= 0 && j < paddedLength - (q - 1) ? str.charAt(strIndex) : PAD_CHAR);
+                qGram = (qGram << 16) | currentChar;
+            }
+            /////
+            
+            sortedQGramArray[i] = qGram;
+        }
+        
+        Arrays.sort(sortedQGramArray);
+        return sortedQGramArray;
+    }
+    
+    
+    
+    /**
+     * Determines the smallest number of q-grams that a String of a given length must
+     * share with the String of interest of a search to be within its maximum edit distance.
+     
+     * @param pertinentStrLength        an int of the length of the String of interest
+     * @param strLength                 an int of the length of a String
+     * @param maxEditDistance           an int denoting the maximum amount of edit operations that can separate the Strings
+     * @return                          an int of the smallest number of q-grams the Strings must share
+     */
+    private int computeSharedQGramThreshold(int pertinentStrLength, int strLength, int maxEditDistance)
+    {
+        return Math.max(pertinentStrLength, strLength) + q - 1 - (q + 1) * maxEditDistance;
+    }
+    
+    
+    
+    /**
+     * Searches this index for Strings which are within a given edit distance from a particular String.
+     * 
+     * The posting lists of the distinct q-grams of {@code pertinentStr} are merged, totaling the number of 
+     * q-grams each String shares with it, and the Strings whose totals pass the count filter are verified. 
+     * The Strings whose lengths make the count filter unable to exclude Strings sharing no q-grams 
+     * with {@code pertinentStr} (those whose thresholds are not positive) are verified directly.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate
+     *                              a String in this index with the String of interest
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing, in the iteration order of the indexed Collection, all the Strings
+     *                              in this index that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public LinkedList<String> fuzzySearch(int maxEditDistance, String pertinentStr)
+    {
+        int pertinentStrLength = pertinentStr.length();
+        int minLength = Math.max(0, pertinentStrLength - maxEditDistance);
+        int maxLength = pertinentStrLength + maxEditDistance;
+        
+        DistanceKernel distanceKernel = new DistanceKernel(pertinentStr);
+        int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+        
+        //Array which will contain the indices of the matching Strings, and the number of them
+        int[] matchIndexArray = new int[16];
+        int matchCount = 0;
+        /////
+        
+        //Create a cursor for the posting list of each distinct q-gram of pertinentStr that occurs in this index,
+        //along with the number of times the q-gram occurs in pertinentStr, and merge the lists in index order
+        long[] sortedQGramArray = createSortedQGramArray(pertinentStr);
+        PriorityQueue<PostingListCursor> cursorPriorityQueue = new PriorityQueue<PostingListCursor>();
+        
+        for(int j = 0; j < sortedQGramArray.length; )
+        {
+            int runEnd = j;
+            while(runEnd < sortedQGramArray.length && sortedQGramArray[runEnd] == sortedQGramArray[j]) runEnd++;
+            
+            int qGramIndex = Arrays.binarySearch(qGramArray, sortedQGramArray[j]);
+            if(qGramIndex >= 0)
+            {
+                PostingListCursor cursor = new PostingListCursor(postingOffsetArray[qGramIndex], postingOffsetArray[qGramIndex + 1], runEnd - j);
+                if(cursor.advance()) cursorPriorityQueue.add(cursor);
+            }
+            
+            j = runEnd;
+        }
+        
+        while(!cursorPriorityQueue.isEmpty())
+        {
+            //Total the q-grams shared by pertinentStr and the String with the smallest current index among the cursors
+            int currentStrIndex = cursorPriorityQueue.peek().currentStrIndex;
+            int sharedQGramCount = 0;
+            
+            while(!cursorPriorityQueue.isEmpty() && cursorPriorityQueue.peek().currentStrIndex == currentStrIndex)
+            {
+                PostingListCursor cursor = cursorPriorityQueue.poll();
+                sharedQGramCount += Math.min(cursor.pertinentOccurrenceCount, cursor.currentOccurrenceCount);
+                
+                if(cursor.advance()) cursorPriorityQueue.add(cursor);
+            }
+            /////
+            
+            //Verify the String if its length is in range and it passes the count filter (the Strings 
+            //with non-positive thresholds are verified below, regardless of shared q-grams)
+            String currentStr = strArray[currentStrIndex];
+            int threshold = computeSharedQGramThreshold(pertinentStrLength, currentStr.length(), maxEditDistance);
+            
+            if(currentStr.length() >= minLength && currentStr.length() <= maxLength && threshold > 0 && sharedQGramCount >= threshold
+                && distanceKernel.distance(currentStr, maxEditDistance, histogramScratchArray) <= maxEditDistance)
+            {
+                if(matchCount == matchIndexArray.length) matchIndexArray = Arrays.copyOf(matchIndexArray, 2 * matchCount);
+                matchIndexArray[matchCount++] = currentStrIndex;
+            }
+            /////
+        }
+        /////
+        
+        //Verify the Strings of each length in range for which the count filter cannot exclude Strings that share no q-grams
+        for(int length = minLength; length <= Math.min(maxLength, lengthBucketStartArray.length - 2); length++)
+        {
+            if(computeSharedQGramThreshold(pertinentStrLength, length, maxEditDistance) > 0) continue;
+            
+            for(int i = lengthBucketStartArray[length]; i < lengthBucketStartArray[length + 1]; i++)
+            {
+                int strIndex = lengthSortedIndexArray[i];
+                
+                if(distanceKernel.distance(strArray[strIndex], maxEditDistance, histogramScratchArray) <= maxEditDistance)
+                {
+                    if(matchCount == matchIndexArray.length) matchIndexArray = Arrays.copyOf(matchIndexArray, 2 * matchCount);
+                    matchIndexArray[matchCount++] = strIndex;
+                }
+            }
+        }
+        /////
+        
+        //Emit the distinct matching Strings in index order
+        Arrays.sort(matchIndexArray, 0, matchCount);
+        
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        for(int i = 0; i < matchCount; i++)
+        {
+            if(i == 0 || matchIndexArray[i] != matchIndexArray[i - 1]) resultStringLinkedList.add(strArray[matchIndexArray[i]]);
+        }
+        /////
+        
+        return resultStringLinkedList;
+    }
+    
+    
+    
+    /**
+     * Appends a number to a byte array as a sequence of 7-bit groups, least significant group 
+     * first, with the high bit of each byte set if another group follows it.
+     
+     * @param byteArray     a byte array
+     * @param size          an int of the number of bytes in use in {@code byteArray}
+     * @param value         a non-negative int
+     * @return              {@code byteArray} if it could hold the encoded number, or a larger copy of it containing the number otherwise
+     */
+    private static byte[] appendVarInt(byte[] byteArray, int size, int value)
+    {
+        if(size + 5 > byteArray.length) byteArray = Arrays.copyOf(byteArray, Math.max(size + 5, byteArray.length * 2));
+        
+        while((value & ~0x7F) != 0)
+        {
+            byteArray[size++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        
+        byteArray[size] = (byte)value;
+        return byteArray;
+    }
+    
+    
+    
+    /**
+     * Determines the number of bytes a number occupies when encoded by appendVarInt.
+     
+     * @param value     a non-negative int
+     * @return          an int of the number of bytes in the encoding of {@code value}
+     */
+    private static int getVarIntLength(int value)
+    {
+        int length = 1;
+        while((value >>>= 7) != 0) length++;
+        
+        return length;
+    }
+    
+    
+    
+    /**
+     * A growable, encoded posting list.
+     */
+    private static final class PostingListBuilder
+    {
+        byte[] byteArray = new byte[8];
+        int size = 0;
+        
+        //The index of the last String added to this list
+        private int lastStrIndex = -1;
+        
+        
+        
+        void add(int strIndex, int occurrenceCount)
+        {
+            int indexDifference = strIndex - lastStrIndex;
+            
+            byteArray = appendVarInt(byteArray, size, indexDifference);
+            size += getVarIntLength(indexDifference);
+            
+            byteArray = appendVarInt(byteArray, size, occurrenceCount);
+            size += getVarIntLength(occurrenceCount);
+            
+            lastStrIndex = strIndex;
+        }
+    }
+    
+    
+    
+    /**
+     * A cursor that decodes the entries of a posting list of this index one at a time.
+     */
+    private final class PostingListCursor implements Comparable<PostingListCursor>
+    {
+        //The offsets in postingByteArray of the next undecoded byte of the list and of the end of the list
+        private int offset;
+        private final int endOffset;
+        /////
+        
+        //The number of times the list's q-gram occurs in the String of interest
+        final int pertinentOccurrenceCount;
+        
+        //The index of the String of the current entry and the number of times the list's q-gram occurs in it
+        int currentStrIndex = -1;
+        int currentOccurrenceCount;
+        /////
+        
+        
+        
+        PostingListCursor(int offset, int endOffset, int pertinentOccurrenceCount)
+        {
+            this.offset = offset;
+            this.endOffset = endOffset;
+            this.pertinentOccurrenceCount = pertinentOccurrenceCount;
+        }
+        
+        
+        
+        /**
+         * Decodes a number encoded by appendVarInt, advancing offset past it.
+         
+         * @return      the decoded int
+         */
+        private int readVarInt()
+        {
+            int value = 0;
+            int shift = 0;
+            byte currentByte;
+            
+            do
+            {
+                currentByte = postingByteArray[offset++];
+                value |= (currentByte & 0x7F) << shift;
+                shift += 7;
+            }
+            while(currentByte < 0);
+            
+            return value;
+        }
+        
+        
+        
+        /**
+         * Advances this cursor to the next entry of its list.
+         
+         * @return      true if this cursor was advanced to an entry, false if the list has no more entries
+         */
+        boolean advance()
+        {
+            if(offset == endOffset) return false;
+            
+            currentStrIndex += readVarInt();
+            currentOccurrenceCount = readVarInt();
+            
+            return true;
+        }
+        
+        
+        
+        @Override
+        public int compareTo(PostingListCursor otherCursor)
+        {
+            return Integer.compare(currentStrIndex, otherCursor.currentStrIndex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * An interface describing an object that is notified of the pairs of Strings found by a {@link SimilarityJoin}.
+ * Joins may be carried out by multiple threads, so implementations must be thread-safe.
+ 
+ * @author Kevin
+ */
+public interface SimilarityJoinListener
+{
+    /**
+     * Notifies this listener of a pair of Strings within a join's maximum edit distance of each other.
+     
+     * @param index1            an int of the index of the first String of the pair in its array
+     * @param index2            an int of the index of the second String of the pair in its array
+     * @param editDistance      an int of the edit distance between the Strings of the pair
+     */
+    public void pairFound(int index1, int index2, int editDistance);
+}
@@ -0,0 +1,156 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import com.BoxOfC.MDAG.MDAG;
+import com.BoxOfC.MDAG.SimpleMDAGNode;
+
+
+
+/**
+ * A {@link FuzzySearchableDictionary} backed by a simplified {@link com.BoxOfC.MDAG.MDAG}.
+ 
+ * @author Kevin
+ */
+public final class SimpleMDAGDictionary implements FuzzySearchableDictionary
+{
+    //The array containing the SimpleMDAGNodes of the backing MDAG. The outgoing transitions of a given SimpleMDAGNode 
+    //lead to the nodes stored in the range [transitionSetBeginIndex, transitionSetBeginIndex + outgoingTransitionSetSize)
+    private final SimpleMDAGNode[] simpleMDAGArray;
+    
+    //The SimpleMDAGNode that all transition paths in the backing MDAG start from
+    private final SimpleMDAGNode sourceNode;
+    
+    
+    
+    /**
+     * Constructs a SimpleMDAGDictionary from a simplified MDAG.
+     
+     * @param mdag      an MDAG that has been simplified
+     */
+    public SimpleMDAGDictionary(MDAG mdag)
+    {
+        if(!(mdag.getSourceNode() instanceof SimpleMDAGNode))
+            throw new IllegalArgumentException("mdag has not been simplified");
+        
+        simpleMDAGArray = mdag.getSimpleMDAGArray();
+        sourceNode = (SimpleMDAGNode)mdag.getSourceNode();
+    }
+    
+    
+    
+    @Override
+    public DictionaryCursor getSourceCursor()
+    {
+        return new Cursor(sourceNode);
+    }
+    
+    
+    
+    /**
+     * A DictionaryCursor positioned at a SimpleMDAGNode.
+     */
+    private final class Cursor implements DictionaryCursor
+    {
+        //The SimpleMDAGNode this Cursor is positioned at
+        private SimpleMDAGNode node;
+        
+        
+        
+        private Cursor(SimpleMDAGNode node)
+        {
+            this.node = node;
+        }
+        
+        
+        
+        @Override
+        public boolean isAcceptNode()
+        {
+            return node.isAcceptNode();
+        }
+
+        
+        
+        @Override
+        public int getOutgoingTransitionCount()
+        {
+            return node.getOutgoingTransitionSetSize();
+        }
+
+        
+        
+        @Override
+        public char getOutgoingTransitionLabel(int transitionIndex)
+        {
+            return simpleMDAGArray[node.getTransitionSetBeginIndex() + transitionIndex].getLetter();
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex)
+        {
+            return new Cursor(simpleMDAGArray[node.getTransitionSetBeginIndex() + transitionIndex]);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor transition(char letter)
+        {
+            SimpleMDAGNode transitionNode = node.transition(simpleMDAGArray, letter);
+            return (transitionNode != null ? new Cursor(transitionNode) : null);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor copy()
+        {
+            return new Cursor(node);
+        }
+        
+        
+        
+        @Override
+        public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex)
+        {
+            node = simpleMDAGArray[((Cursor)parentCursor).node.getTransitionSetBeginIndex() + transitionIndex];
+        }
+        
+        
+        
+        @Override
+        public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter)
+        {
+            SimpleMDAGNode transitionNode = ((Cursor)parentCursor).node.transition(simpleMDAGArray, letter);
+            if(transitionNode == null) return false;
+            
+            node = transitionNode;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+
+
+/**
+ * A {@link FuzzySearchableDictionary} backed by an array of Strings sorted in ascending (natural) order.
+ * 
+ * The nodes of the implied trie are represented by the ranges of the 
+ * array containing the Strings that share a given prefix, so no graph 
+ * needs to be built in order to search the array.
+ 
+ * @author Kevin
+ */
+public final class SortedStringArrayDictionary implements FuzzySearchableDictionary
+{
+    //The array of Strings, sorted in ascending order, backing this dictionary
+    private final String[] sortedStringArray;
+    
+    
+    
+    /**
+     * Constructs a SortedStringArrayDictionary from an array of sorted Strings. 
+     * The array is not copied, and should not be modified while this dictionary is in use.
+     
+     * @param sortedStringArray     an array of Strings sorted in ascending order
+     */
+    public SortedStringArrayDictionary(String[] sortedStringArray)
+    {
+        this.sortedStringArray = sortedStringArray;
+    }
+    
+    
+    
+    @Override
+    public DictionaryCursor getSourceCursor()
+    {
+        return new Cursor(0, sortedStringArray.length, 0);
+    }
+    
+    
+    
+    /**
+     * Determines the end of the range of Strings in a sorted range which have a char 
+     * at a given index that is less than or equal to a given char. All the Strings
+     * in the range are assumed to be longer than the index.
+     
+     * @param rangeStartIndex       an int of the index in sortedStringArray that the range of interest starts at
+     * @param rangeEndIndex         an int of one past the index in sortedStringArray that the range of interest ends at
+     * @param charIndex             an int of the index of the chars of interest in the Strings of the range
+     * @param letter                a char
+     * @return                      an int of the index of the first String in the range with a char 
+     *                              greater than {@code letter} at {@code charIndex} ({@code rangeEndIndex} if none exists)
+     */
+    private int findCharRangeEnd(int rangeStartIndex, int rangeEndIndex, int charIndex, char letter)
+    {
+        int low = rangeStartIndex;
+        int high = rangeEndIndex;
+        
+        while(low < high)
+        {
+            int mid = (low + high) >>> 1;
+            
+            if(sortedStringArray[mid].charAt(charIndex) <= letter) low = mid + 1;
+            else high = mid;
+        }
+        
+        return low;
+    }
+    
+    
+    
+    /**
+     * A DictionaryCursor positioned at the trie node corresponding to a prefix shared 
+     * by a range of Strings in sortedStringArray. A String in the range that is equal to
+     * the prefix (if any) will appear at the start of the range.
+     */
+    private final class Cursor implements DictionaryCursor
+    {
+        //Ints denoting the start and end (exclusive) of the range of Strings in sortedStringArray with the prefix this Cursor represents
+        private int rangeStartIndex;
+        private int rangeEndIndex;
+        /////
+        
+        //The length of the prefix this Cursor represents
+        private int depth;
+        
+        //The index of the first String in the range that is longer than the prefix this Cursor represents
+        private int transitionRangeStartIndex;
+        
+        //Arrays whose beginnings contain the labels of the outgoing transitions of this Cursor's node and the start of the sub-range of
+        //Strings that each leads to (the end of each sub-range is the start of the next). These are lazily computed from the range of
+        //Strings, and are reused (growing only when necessary) each time this Cursor is repositioned
+        private char[] outgoingTransitionLabelArray = new char[0];
+        private int[] outgoingTransitionRangeStartArray = new int[1];
+        /////
+        
+        //The number of outgoing transitions of this Cursor's node, or -1 if they have yet to be computed
+        private int outgoingTransitionCount;
+        
+        
+        
+        private Cursor(int rangeStartIndex, int rangeEndIndex, int depth)
+        {
+            setRange(rangeStartIndex, rangeEndIndex, depth);
+        }
+        
+        
+        
+        /**
+         * Positions this Cursor at the trie node corresponding to the prefix of a given length shared by a range of Strings.
+         
+         * @param rangeStartIndex       an int of the index in sortedStringArray that the range of interest starts at
+         * @param rangeEndIndex         an int of one past the index in sortedStringArray that the range of interest ends at
+         * @param depth                 an int of the length of the prefix shared by the Strings in the range
+         */
+        private void setRange(int rangeStartIndex, int rangeEndIndex, int depth)
+        {
+            this.rangeStartIndex = rangeStartIndex;
+            this.rangeEndIndex = rangeEndIndex;
+            this.depth = depth;
+            
+            //Skip past the Strings (duplicates included) that are equal to the prefix this Cursor represents
+            int currentIndex = rangeStartIndex;
+            while(currentIndex < rangeEndIndex && sortedStringArray[currentIndex].length() == depth) currentIndex++;
+            transitionRangeStartIndex = currentIndex;
+            /////
+            
+            outgoingTransitionCount = -1;
+        }
+        
+        
+        
+        /**
+         * Partitions the Strings in this Cursor's range that are longer than the prefix it represents
+         * by their chars at index {@code depth}, storing the results in outgoingTransitionLabelArray
+         * and outgoingTransitionRangeStartArray.
+         */
+        private void loadOutgoingTransitions()
+        {
+            //Count the number of distinct chars at index depth in the range, jumping directly to the end of the sub-range of each
+            int transitionCount = 0;
+            for(int i = transitionRangeStartIndex; i < rangeEndIndex; transitionCount++)
+                i = findCharRangeEnd(i, rangeEndIndex, depth, sortedStringArray[i].charAt(depth));
+            /////
+            
+            if(transitionCount > outgoingTransitionLabelArray.length)
+            {
+                outgoingTransitionLabelArray = new char[transitionCount];
+                outgoingTransitionRangeStartArray = new int[transitionCount + 1];
+            }
+            
+            //Record the char and start of each sub-range
+            int counter = 0;
+            for(int i = transitionRangeStartIndex; i < rangeEndIndex; counter++)
+            {
+                char currentChar = sortedStringArray[i].charAt(depth);
+                outgoingTransitionLabelArray[counter] = currentChar;
+                outgoingTransitionRangeStartArray[counter] = i;
+                i = findCharRangeEnd(i, rangeEndIndex, depth, currentChar);
+            }
+            /////
+            
+            outgoingTransitionRangeStartArray[transitionCount] = rangeEndIndex;
+            outgoingTransitionCount = transitionCount;
+        }
+        
+        
+        
+        @Override
+        public boolean isAcceptNode()
+        {
+            return (transitionRangeStartIndex > rangeStartIndex);
+        }
+
+        
+        
+        @Override
+        public int getOutgoingTransitionCount()
+        {
+            if(outgoingTransitionCount == -1) loadOutgoingTransitions();
+            return outgoingTransitionCount;
+        }
+
+        
+        
+        @Override
+        public char getOutgoingTransitionLabel(int transitionIndex)
+        {
+            if(outgoingTransitionCount == -1) loadOutgoingTransitions();
+            return outgoingTransitionLabelArray[transitionIndex];
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor getOutgoingTransitionTarget(int transitionIndex)
+        {
+            if(outgoingTransitionCount == -1) loadOutgoingTransitions();
+            return new Cursor(outgoingTransitionRangeStartArray[transitionIndex], outgoingTransitionRangeStartArray[transitionIndex + 1], depth + 1);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor transition(char letter)
+        {
+            //Find the sub-range of Strings with letter at index depth; the Strings before it have smaller chars at the index
+            int subRangeStartIndex = (letter == Character.MIN_VALUE ? transitionRangeStartIndex 
+                                                                    : findCharRangeEnd(transitionRangeStartIndex, rangeEndIndex, depth, (char)(letter - 1)));
+            int subRangeEndIndex = findCharRangeEnd(subRangeStartIndex, rangeEndIndex, depth, letter);
+            /////
+            
+            return (subRangeStartIndex < subRangeEndIndex ? new Cursor(subRangeStartIndex, subRangeEndIndex, depth + 1) : null);
+        }
+
+        
+        
+        @Override
+        public DictionaryCursor copy()
+        {
+            return new Cursor(rangeStartIndex, rangeEndIndex, depth);
+        }
+        
+        
+        
+        @Override
+        public void setToOutgoingTransitionTarget(DictionaryCursor parentCursor, int transitionIndex)
+        {
+            Cursor parent = (Cursor)parentCursor;
+            if(parent.outgoingTransitionCount == -1) parent.loadOutgoingTransitions();
+            
+            setRange(parent.outgoingTransitionRangeStartArray[transitionIndex], parent.outgoingTransitionRangeStartArray[transitionIndex + 1], parent.depth + 1);
+        }
+        
+        
+        
+        @Override
+        public boolean setToTransitionTarget(DictionaryCursor parentCursor, char letter)
+        {
+            Cursor parent = (Cursor)parentCursor;
+            
+            //Find the sub-range of Strings with letter at index depth in the range of parent
+            int subRangeStartIndex = (letter == Character.MIN_VALUE ? parent.transitionRangeStartIndex 
+                                                                    : findCharRangeEnd(parent.transitionRangeStartIndex, parent.rangeEndIndex, parent.depth, (char)(letter - 1)));
+            int subRangeEndIndex = findCharRangeEnd(subRangeStartIndex, parent.rangeEndIndex, parent.depth, letter);
+            /////
+            
+            if(subRangeStartIndex == subRangeEndIndex) return false;
+            
+            setRange(subRangeStartIndex, subRangeEndIndex, parent.depth + 1);
+            return true;
+        }
+    }
+}
@@ -167,20 +167,34 @@ public class State
      */
     public AugBitSet getRelevantSubwordCharacteristicVector(int maxEditDistance, String automatonString, char letter)
     {
-        //Isolate the substring in automatonString that serves as this State's relevant subword
-        int minimalPositionBoundary = memberPositionArray[0].getI();
+        return getRelevantSubwordCharacteristicVector(memberPositionArray[0].getI(), maxEditDistance, automatonString, letter);
+    }
+    
+    
+    
+    /**
+     * Procures an object representation of the characteristic vector of the relevant subword of a State with a given minimal boundary.
+     
+     * @param minimalPositionBoundary       an int of the smallest boundary value held by a Position in the State of interest
+     * @param maxEditDistance               an int of the maximum number of edit operations desired
+     * @param automatonString               the String containing the char sequence that the characteristic vector is to be based off
+     * @param letter                        the char that the characteristic vector is to be based off of
+     * @return                              an AugBitSet representation of the characteristic vector of the relevant subword 
+     *                                      of a State with a minimal boundary of {@code minimalPositionBoundary}
+     */
+    public static AugBitSet getRelevantSubwordCharacteristicVector(int minimalPositionBoundary, int maxEditDistance, String automatonString, char letter)
+    {
+        //Determine the size of the substring in automatonString (starting at minimalPositionBoundary) that serves as the State's relevant subword
         int relevantSubwordSize = Math.min(2 * maxEditDistance + 1, automatonString.length() - minimalPositionBoundary);
-        String relevantSubword = automatonString.substring(minimalPositionBoundary, minimalPositionBoundary + relevantSubwordSize);
-        /////
 
-        //Create an AugBitSet that will be used represent the characteristic vector of relevantSubword
+        //Create an AugBitSet that will be used represent the characteristic vector of the relevant subword
         AugBitSet relevantSubwordCharacteristicVector = new AugBitSet(relevantSubwordSize);
         
-        //Loop through the chars in relevantSubword, setting the corresponding bit in
+        //Loop through the chars in the relevant subword, setting the corresponding bit in
         //relevantSubwordCharacteristicVector to true if it is equal to letter, and false otherwise
         for(int i = 0; i < relevantSubwordSize; i++)
         {
-            if(relevantSubword.charAt(i) == letter)
+            if(automatonString.charAt(minimalPositionBoundary + i) == letter)
                 relevantSubwordCharacteristicVector.set(i);
         }
         /////
@@ -239,6 +253,44 @@ public class State
 
     
     
+    /**
+     * Determines the equality of this State with another object.
+     *
+     * A State is equal to another object iff the argument object is also a State
+     * and has a member Position array that is equal to that of this State.
+     
+     * @param obj       an Object
+     * @return          true if {@code obj} is a State and its member Position array
+     *                  is equal to that of this State; false otherwise
+     */
+    @Override
+    public boolean equals(Object obj)
+    {
+        boolean areEqual = (this == obj);
+        
+        if(!areEqual && obj != null && obj.getClass().equals(State.class))
+            areEqual = Arrays.equals(this.memberPositionArray, ((State)obj).memberPositionArray);
+        
+        return areEqual;
+    }
+    
+    
+    
+    /**
+     * Returns the hash code value of this State.
+     
+     * @return      an int of the hash code value of this State
+     */
+    @Override
+    public int hashCode()
+    {
+        int hash = 5;
+        hash = 41 * hash + Arrays.hashCode(this.memberPositionArray);
+        return hash;
+    }
+    
+    
+    
     /**
      * Returns a String representation of this State.
      
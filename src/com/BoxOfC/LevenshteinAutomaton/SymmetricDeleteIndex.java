@@ -0,0 +1,313 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomaton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+
+
+
+/**
+ * A symmetric-delete index of a collection of Strings, trading memory for fuzzy search speed at small edit distances.
+ * 
+ * If two Strings are within edit distance n of each other, there is a String which can be derived from each of them by
+ * deleting at most n chars (each substitution and transposition requires one deletion from each String, and each insertion
+ * or deletion one deletion from one of them). The index maps the deletion variants of each indexed String to the String, so
+ * a search need only generate the deletion variants of the String of interest, look them up, and verify the Strings found.
+ * 
+ * Variants are stored as 64-bit hashes in compressed sparse row form: a sorted array of the distinct hashes, an array of 
+ * the offsets of each hash's String indices, and the array of the indices themselves. Distinct variants with equal hashes
+ * only add candidates, which are weeded out by verification.
+ 
+ * @author Kevin
+ */
+public final class SymmetricDeleteIndex
+{
+    //The largest edit distance that searches of this index can be carried out with
+    private final int maxEditDistance;
+    
+    //Array containing the indexed Strings
+    private final String[] strArray;
+    
+    //Sorted array of the distinct hashes of the deletion variants of the indexed Strings, and the array containing the
+    //offsets of their String indices in strIndexArray (the indices of the hash at index i end where those of i + 1 begin)
+    private final long[] variantHashArray;
+    private final int[] strIndexOffsetArray;
+    /////
+    
+    //Array containing the (ascending) indices of the Strings of each variant hash
+    private final int[] strIndexArray;
+    
+    
+    
+    /**
+     * Constructs a SymmetricDeleteIndex.
+     
+     * @param strCollection         a Collection containing the Strings to be indexed
+     * @param maxEditDistance       an int of the largest edit distance that searches of the index are to be carried out with
+     */
+    public SymmetricDeleteIndex(Collection<String> strCollection, int maxEditDistance)
+    {
+        this.maxEditDistance = maxEditDistance;
+        strArray = strCollection.toArray(new String[strCollection.size()]);
+        
+        //Create the variant hashes of each String, keeping track of the total number of (hash, String) pairs
+        long[][] variantHashArrayArray = new long[strArray.length][];
+        int pairCount = 0;
+        
+        for(int i = 0; i < strArray.length; i++)
+        {
+            variantHashArrayArray[i] = createSortedVariantHashArray(strArray[i], maxEditDistance);
+            pairCount += variantHashArrayArray[i].length;
+        }
+        /////
+        
+        //Collect the distinct hashes of all the Strings
+        long[] allVariantHashArray = new long[pairCount];
+        int counter = 0;
+        for(long[] currentVariantHashArray : variantHashArrayArray)
+        {
+            System.arraycopy(currentVariantHashArray, 0, allVariantHashArray, counter, currentVariantHashArray.length);
+            counter += currentVariantHashArray.length;
+        }
+        
+        Arrays.sort(allVariantHashArray);
+        
+        int distinctHashCount = 0;
+        for(int i = 0; i < allVariantHashArray.length; i++)
+        {
+            if(i == 0 || allVariantHashArray[i] != allVariantHashArray[i - 1]) allVariantHashArray[distinctHashCount++] = allVariantHashArray[i];
+        }
+        
+        variantHashArray = Arrays.copyOf(allVariantHashArray, distinctHashCount);
+        /////
+        
+        //Count the Strings of each hash, and use the counts to determine the offsets of their String indices
+        strIndexOffsetArray = new int[distinctHashCount + 1];
+        for(long[] currentVariantHashArray : variantHashArrayArray)
+        {
+            for(long variantHash : currentVariantHashArray) strIndexOffsetArray[Arrays.binarySearch(variantHashArray, variantHash) + 1]++;
+        }
+        
+        for(int i = 1; i < strIndexOffsetArray.length; i++) strIndexOffsetArray[i] += strIndexOffsetArray[i - 1];
+        /////
+        
+        //Place the index of each String in the slots of its hashes, in String order
+        strIndexArray = new int[pairCount];
+        int[] strIndexFillArray = Arrays.copyOf(strIndexOffsetArray, distinctHashCount);
+        
+        for(int i = 0; i < strArray.length; i++)
+        {
+            for(long variantHash : variantHashArrayArray[i]) strIndexArray[strIndexFillArray[Arrays.binarySearch(variantHashArray, variantHash)]++] = i;
+            variantHashArrayArray[i] = null;
+        }
+        /////
+    }
+    
+    
+    
+    /**
+     * Retrieves the largest edit distance that searches of this index can be carried out with.
+     
+     * @return      an int of the edit distance this index was created for
+     */
+    public int getMaxEditDistance()
+    {
+        return maxEditDistance;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of Strings in this index.
+     
+     * @return      an int of the number of Strings in this index
+     */
+    public int size()
+    {
+        return strArray.length;
+    }
+    
+    
+    
+    /**
+     * Retrieves the number of distinct deletion variant hashes in this index.
+     
+     * @return      an int of the number of distinct variant hashes of the Strings in this index
+     */
+    public int getVariantCount()
+    {
+        return variantHashArray.length;
+    }
+    
+    
+    
+    /**
+     * Determines the amount of memory occupied by the variant table of this index (excluding the indexed Strings themselves).
+     
+     * @return      a long of the number of bytes occupied by the variant hash, offset and String index arrays of this index
+     */
+    public long getIndexByteCount()
+    {
+        return 8L * variantHashArray.length + 4L * strIndexOffsetArray.length + 4L * strIndexArray.length;
+    }
+    
+    
+    
+    /**
+     * Computes the 64-bit hash of a String.
+     
+     * @param str       a String
+     * @return          a long of the hash of {@code str}
+     */
+    private static long hash(String str)
+    {
+        //Compute the FNV-1a hash of the chars of str, then mix its bits (using the finalizer of MurmurHash3)
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < str.length(); i++)
+        {
+            hash ^= str.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= (hash >>> 33);
+        /////
+        
+        return hash;
+    }
+    
+    
+    
+    /**
+     * Creates the distinct hashes of the Strings derivable from a String by deleting at most a given number of chars.
+     
+     * @param str               a String
+     * @param maxDeletions      an int of the largest number of chars that can be deleted
+     * @return                  a sorted array containing the distinct hashes of the deletion variants of {@code str} (including {@code str} itself)
+     */
+    private static long[] createSortedVariantHashArray(String str, int maxDeletions)
+    {
+        //Generate the variants level by level, each level containing the distinct variants with one more deletion than the last
+        HashSet<String> variantHashSet = new HashSet<String>();
+        variantHashSet.add(str);
+        
+        ArrayList<String> currentLevelArrayList = new ArrayList<String>();
+        currentLevelArrayList.add(str);
+        
+        for(int deletionCount = 1; deletionCount <= maxDeletions; deletionCount++)
+        {
+            ArrayList<String> nextLevelArrayList = new ArrayList<String>();
+            
+            for(String currentVariant : currentLevelArrayList)
+            {
+                for(int i = 0; i < currentVariant.length(); i++)
+                {
+                    String nextVariant = currentVariant.substring(0, i) + currentVariant.substring(i + 1);
+                    if(variantHashSet.add(nextVariant)) nextLevelArrayList.add(nextVariant);
+                }
+            }
+            
+            currentLevelArrayList = nextLevelArrayList;
+        }
+        /////
+        
+        //Hash the variants, removing duplicate hashes
+        long[] variantHashArray = new long[variantHashSet.size()];
+        int counter = 0;
+        for(String variant : variantHashSet) variantHashArray[counter++] = hash(variant);
+        
+        Arrays.sort(variantHashArray);
+        
+        int distinctHashCount = 0;
+        for(int i = 0; i < variantHashArray.length; i++)
+        {
+            if(i == 0 || variantHashArray[i] != variantHashArray[i - 1]) variantHashArray[distinctHashCount++] = variantHashArray[i];
+        }
+        /////
+        
+        return Arrays.copyOf(variantHashArray, distinctHashCount);
+    }
+    
+    
+    
+    /**
+     * Searches this index for Strings which are within a given edit distance from a particular String.
+     
+     * @param maxEditDistance       an int denoting the maximum amount of edit operations that can separate a String in this
+     *                              index with the String of interest; must not exceed the edit distance this index was created for
+     * @param pertinentStr          the String that all edit-distance calculations are to be carried out in relation to
+     * @return                      a LinkedList containing, in the iteration order of the indexed Collection, all the Strings
+     *                              in this index that are at most {@code maxEditDistance} away from {@code pertinentStr}
+     */
+    public LinkedList<String> fuzzySearch(int maxEditDistance, String pertinentStr)
+    {
+        if(maxEditDistance > this.maxEditDistance)
+            throw new IllegalArgumentException("maxEditDistance exceeds the edit distance this index was created for (" + this.maxEditDistance + ")");
+        
+        //Collect the indices of the Strings which share a variant hash with pertinentStr
+        int[] candidateIndexArray = new int[16];
+        int candidateCount = 0;
+        
+        for(long variantHash : createSortedVariantHashArray(pertinentStr, maxEditDistance))
+        {
+            int hashIndex = Arrays.binarySearch(variantHashArray, variantHash);
+            if(hashIndex < 0) continue;
+            
+            int strIndexCount = strIndexOffsetArray[hashIndex + 1] - strIndexOffsetArray[hashIndex];
+            if(candidateCount + strIndexCount > candidateIndexArray.length) 
+                candidateIndexArray = Arrays.copyOf(candidateIndexArray, Math.max(candidateCount + strIndexCount, 2 * candidateIndexArray.length));
+            
+            System.arraycopy(strIndexArray, strIndexOffsetArray[hashIndex], candidateIndexArray, candidateCount, strIndexCount);
+            candidateCount += strIndexCount;
+        }
+        
+        Arrays.sort(candidateIndexArray, 0, candidateCount);
+        /////
+        
+        //Verify each distinct candidate
+        LinkedList<String> resultStringLinkedList = new LinkedList<String>();
+        DistanceKernel distanceKernel = new DistanceKernel(pertinentStr);
+        int[] histogramScratchArray = DistanceKernel.createHistogramScratchArray();
+        
+        for(int i = 0; i < candidateCount; i++)
+        {
+            if(i > 0 && candidateIndexArray[i] == candidateIndexArray[i - 1]) continue;
+            
+            String candidateStr = strArray[candidateIndexArray[i]];
+            if(distanceKernel.distance(candidateStr, maxEditDistance, histogramScratchArray) <= maxEditDistance)
+                resultStringLinkedList.add(candidateStr);
+        }
+        /////
+        
+        return resultStringLinkedList;
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomatonTest;
+
+import com.BoxOfC.LevenshteinAutomaton.ApproximateMatchListener;
+import com.BoxOfC.LevenshteinAutomaton.ApproximateSubstringScanner;
+import com.BoxOfC.LevenshteinAutomaton.LevenshteinAutomaton;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.TreeMap;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ *
+ * @author Kevin
+ */
+public class ApproximateSubstringScannerTest 
+{
+    int maxEditDistanceToTest = 3;
+    
+    
+    
+    private static String createRandomString(int minLength, int maxLength, String alphabet)
+    {
+        StringBuilder strBuilder = new StringBuilder();
+        int randomLength = minLength + (int)(Math.random() * (maxLength - minLength + 1));
+        for(int i = 0; i < randomLength; i++) strBuilder.append(alphabet.charAt((int)(Math.random() * alphabet.length())));
+        
+        return strBuilder.toString();
+    }
+    
+    
+    
+    private static TreeMap<Long, Integer> computeOccurrences(String pattern, int maxEditDistance, String text)
+    {
+        TreeMap<Long, Integer> occurrenceTreeMap = new TreeMap<Long, Integer>();
+        
+        for(int endIndex = 1; endIndex <= text.length(); endIndex++)
+        {
+            int minEditDistance = Integer.MAX_VALUE;
+            for(int startIndex = 0; startIndex <= endIndex; startIndex++)
+                minEditDistance = Math.min(minEditDistance, LevenshteinAutomaton.computeEditDistance(pattern, text.substring(startIndex, endIndex)));
+            
+            if(minEditDistance <= maxEditDistance) occurrenceTreeMap.put((long)endIndex, minEditDistance);
+        }
+        
+        return occurrenceTreeMap;
+    }
+    
+    
+    
+    private static class RecordingListener implements ApproximateMatchListener
+    {
+        TreeMap<Long, Integer> occurrenceTreeMap = new TreeMap<Long, Integer>();
+        
+        @Override
+        public void matchFound(long endOffset, int editDistance)
+        {
+            occurrenceTreeMap.put(endOffset, editDistance);
+        }
+    }
+    
+    
+    
+    @DataProvider(name = "scannerDataProvider")
+    public Object[][] scannerDataProvider()
+    {
+        int testCount = 200;
+        Object[][] argArrayContainerArray = new Object[testCount][];
+        
+        for(int i = 0; i < testCount; i++)
+        {
+            int randomMaxEditDistance = (int)(Math.random() * (maxEditDistanceToTest + 1));
+            argArrayContainerArray[i] = new Object[]{randomMaxEditDistance, createRandomString(1, 8, "abcd"), createRandomString(0, 60, "abcd")};
+        }
+        
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test(dataProvider = "scannerDataProvider")
+    public void scanTest(int maxEditDistance, String pattern, String text) throws IOException
+    {
+        TreeMap<Long, Integer> expectedOccurrenceTreeMap = computeOccurrences(pattern, maxEditDistance, text);
+        
+        RecordingListener charSequenceListener = new RecordingListener();
+        new ApproximateSubstringScanner(pattern, maxEditDistance, charSequenceListener).scan(text);
+        assert expectedOccurrenceTreeMap.equals(charSequenceListener.occurrenceTreeMap);
+        
+        RecordingListener readerListener = new RecordingListener();
+        new ApproximateSubstringScanner(pattern, maxEditDistance, readerListener).scan(new StringReader(text));
+        assert expectedOccurrenceTreeMap.equals(readerListener.occurrenceTreeMap);
+    }
+    
+    
+    
+    @Test
+    public void mappedFileScanTest() throws IOException
+    {
+        String text = createRandomString(20000, 20000, "abcd\u00e9\u4e2d");
+        
+        File textFile = File.createTempFile("scannerText", ".txt");
+        textFile.deleteOnExit();
+        
+        FileOutputStream fileOutputStream = new FileOutputStream(textFile);
+        fileOutputStream.write(text.getBytes(Charset.forName("UTF-8")));
+        fileOutputStream.close();
+        
+        RecordingListener charSequenceListener = new RecordingListener();
+        new ApproximateSubstringScanner("abc\u00e9d", 1, charSequenceListener).scan(text);
+        
+        RecordingListener fileListener = new RecordingListener();
+        new ApproximateSubstringScanner("abc\u00e9d", 1, fileListener).scan(textFile, Charset.forName("UTF-8"));
+        
+        assert !charSequenceListener.occurrenceTreeMap.isEmpty();
+        assert charSequenceListener.occurrenceTreeMap.equals(fileListener.occurrenceTreeMap);
+    }
+    
+    
+    
+    @Test
+    public void emptyFileScanTest() throws IOException
+    {
+        File textFile = File.createTempFile("scannerEmptyText", ".txt");
+        textFile.deleteOnExit();
+        
+        RecordingListener fileListener = new RecordingListener();
+        new ApproximateSubstringScanner("ab", 2, fileListener).scan(textFile, Charset.forName("UTF-8"));
+        
+        assert fileListener.occurrenceTreeMap.isEmpty();
+    }
+}
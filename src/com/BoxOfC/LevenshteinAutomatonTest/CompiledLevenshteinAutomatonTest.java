@@ -0,0 +1,185 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomatonTest;
+
+import com.BoxOfC.LevenshteinAutomaton.CompiledLevenshteinAutomaton;
+import com.BoxOfC.LevenshteinAutomaton.LevenshteinAutomaton;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.TreeSet;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ *
+ * @author Kevin
+ */
+public class CompiledLevenshteinAutomatonTest 
+{
+    ArrayList<String> wordArrayList = new ArrayList<String>();
+    String[] sortedWordArray;
+    int maxEditDistanceToTest = 3;
+    
+    
+    
+    private static String createRandomString(int maxLength, int alphabetSize)
+    {
+        StringBuilder strBuilder = new StringBuilder();
+        int randomLength = (int)(Math.random() * (maxLength + 1));
+        for(int i = 0; i < randomLength; i++) strBuilder.append((char)('a' + (int)(Math.random() * alphabetSize)));
+        
+        return strBuilder.toString();
+    }
+    
+    
+    
+    @BeforeClass
+    public void initializer()
+    {
+        TreeSet<String> wordTreeSet = new TreeSet<String>();
+        while(wordTreeSet.size() < 5000) wordTreeSet.add(createRandomString(10, 6));
+        
+        wordArrayList.addAll(wordTreeSet);
+        sortedWordArray = wordArrayList.toArray(new String[0]);
+    }
+    
+    
+    
+    @DataProvider(name = "automatonWordDataProvider")
+    public Object[][] automatonWordDataProvider()
+    {
+        int testCount = 100;
+        Object[][] argArrayContainerArray = new Object[testCount][];
+        
+        for(int i = 0; i < testCount; i++)
+        {
+            int randomMaxEditDistance = (int)(Math.random() * (maxEditDistanceToTest + 1));
+            String randomString = (i % 2 == 0 ? wordArrayList.get((int)(Math.random() * wordArrayList.size())) : createRandomString(10, 8));
+            argArrayContainerArray[i] = new Object[]{randomMaxEditDistance, randomString};
+        }
+        
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test(dataProvider = "automatonWordDataProvider")
+    public void acceptsTest(int maxEditDistance, String str)
+    {
+        CompiledLevenshteinAutomaton automaton = new CompiledLevenshteinAutomaton(maxEditDistance, str);
+        
+        for(String currentWord : wordArrayList)
+            assert automaton.accepts(currentWord) == (LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance);
+    }
+    
+    
+    
+    @Test(dataProvider = "automatonWordDataProvider")
+    public void nextAcceptedStringTest(int maxEditDistance, String str)
+    {
+        CompiledLevenshteinAutomaton automaton = new CompiledLevenshteinAutomaton(maxEditDistance, str);
+        
+        for(int i = 0; i < 100; i++)
+        {
+            String randomString = createRandomString(8, 8);
+            String nextAcceptedString = automaton.nextAcceptedString(randomString);
+            
+            if(nextAcceptedString == null)
+                assert str.compareTo(randomString) < 0;
+            else
+                assert nextAcceptedString.compareTo(randomString) >= 0 && automaton.accepts(nextAcceptedString);
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "automatonWordDataProvider")
+    public void seekingFuzzySearchTest(int maxEditDistance, String str)
+    {
+        HashSet<String> resultHashSet1 = new HashSet<String>();
+        
+        for(String currentWord : wordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                resultHashSet1.add(currentWord); 
+        }
+        
+        HashSet<String> resultHashSet2 = new HashSet<String>(LevenshteinAutomaton.seekingFuzzySearch(maxEditDistance, str, sortedWordArray));
+        assert resultHashSet1.equals(resultHashSet2);
+    }
+    
+    
+    
+    @Test
+    public void seekingFileFuzzySearchTest() throws IOException
+    {
+        //Non-ASCII Strings written in a Charset other than the platform default are only found if the file is decoded in that Charset
+        TreeSet<String> wordTreeSet = new TreeSet<String>(wordArrayList.subList(0, 1000));
+        wordTreeSet.add("caf\u00e9");
+        wordTreeSet.add("caf\u00e9s");
+        wordTreeSet.add("\u00e9t\u00e9");
+        wordTreeSet.add("\u4e2d\u6587");
+        
+        Charset charset = Charset.forName("UTF-16BE");
+        File wordFile = File.createTempFile("seekingWords", ".txt");
+        wordFile.deleteOnExit();
+        
+        Writer writer = new OutputStreamWriter(new FileOutputStream(wordFile), charset);
+        
+        try
+        {
+            for(String word : wordTreeSet) writer.write(word + "\n");
+        }
+        finally
+        {
+            writer.close();
+        }
+        
+        String[] queryStringArray = {"cafe", "\u00e9t\u00e9s", "\u4e2d", wordArrayList.get(500)};
+        
+        for(String queryString : queryStringArray)
+        {
+            HashSet<String> resultHashSet1 = new HashSet<String>();
+            
+            for(String currentWord : wordTreeSet)
+            {
+                if(LevenshteinAutomaton.computeEditDistance(queryString, currentWord) <= 1)
+                    resultHashSet1.add(currentWord); 
+            }
+            
+            HashSet<String> resultHashSet2 = new HashSet<String>(LevenshteinAutomaton.seekingFuzzySearch(1, queryString, wordFile, charset));
+            assert !resultHashSet1.isEmpty() && resultHashSet1.equals(resultHashSet2);
+        }
+    }
+}
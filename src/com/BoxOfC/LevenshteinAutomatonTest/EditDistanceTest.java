@@ -0,0 +1,217 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomatonTest;
+
+import com.BoxOfC.LevenshteinAutomaton.BitParallelPattern;
+import com.BoxOfC.LevenshteinAutomaton.DistanceKernel;
+import com.BoxOfC.LevenshteinAutomaton.EditDistanceSignature;
+import com.BoxOfC.LevenshteinAutomaton.EditDistanceWorkspace;
+import com.BoxOfC.LevenshteinAutomaton.LevenshteinAutomaton;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ *
+ * @author Kevin
+ */
+public class EditDistanceTest 
+{
+    EditDistanceWorkspace workspace = new EditDistanceWorkspace();
+    
+    
+    
+    private static String createRandomString(int minLength, int maxLength, String alphabet)
+    {
+        StringBuilder strBuilder = new StringBuilder();
+        int randomLength = minLength + (int)(Math.random() * (maxLength - minLength + 1));
+        for(int i = 0; i < randomLength; i++) strBuilder.append(alphabet.charAt((int)(Math.random() * alphabet.length())));
+        
+        return strBuilder.toString();
+    }
+    
+    
+    
+    private static String createRandomVariant(String str, int editCount, String alphabet)
+    {
+        StringBuilder strBuilder = new StringBuilder(str);
+        
+        for(int i = 0; i < editCount; i++)
+        {
+            int randomIndex = (int)(Math.random() * (strBuilder.length() + 1));
+            char randomChar = alphabet.charAt((int)(Math.random() * alphabet.length()));
+            
+            switch((int)(Math.random() * 4))
+            {
+                case 0:     strBuilder.insert(randomIndex, randomChar); break;
+                case 1:     if(randomIndex < strBuilder.length()) strBuilder.deleteCharAt(randomIndex); break;
+                case 2:     if(randomIndex < strBuilder.length()) strBuilder.setCharAt(randomIndex, randomChar); break;
+                default:    if(randomIndex + 1 < strBuilder.length())
+                            {
+                                char currentChar = strBuilder.charAt(randomIndex);
+                                strBuilder.setCharAt(randomIndex, strBuilder.charAt(randomIndex + 1));
+                                strBuilder.setCharAt(randomIndex + 1, currentChar);
+                            }
+            }
+        }
+        
+        return strBuilder.toString();
+    }
+    
+    
+    
+    @DataProvider(name = "stringPairDataProvider")
+    public Object[][] stringPairDataProvider()
+    {
+        int testCount = 600;
+        int[] maxLengthArray = {8, 64, 70, 200};
+        String[] alphabetArray = {"ab", "abcd", "abc\u00e9\u4e2d"};
+        Object[][] argArrayContainerArray = new Object[testCount][];
+        
+        for(int i = 0; i < testCount; i++)
+        {
+            String alphabet = alphabetArray[i % alphabetArray.length];
+            String str1 = createRandomString(0, maxLengthArray[(i / alphabetArray.length) % maxLengthArray.length], alphabet);
+            String str2 = (i % 2 == 0 ? createRandomVariant(str1, (int)(Math.random() * 6), alphabet) : createRandomString(0, str1.length() + 3, alphabet));
+            argArrayContainerArray[i] = new Object[]{str1, str2};
+        }
+        
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test(dataProvider = "stringPairDataProvider")
+    public void boundedEditDistanceTest(String str1, String str2)
+    {
+        int expectedEditDistance = LevenshteinAutomaton.computeEditDistance(str1, str2);
+        
+        for(int maxEditDistance = 0; maxEditDistance <= 6; maxEditDistance++)
+        {
+            int boundedEditDistance = LevenshteinAutomaton.computeEditDistance(str1, str2, maxEditDistance);
+            assert boundedEditDistance == Math.min(expectedEditDistance, maxEditDistance + 1);
+            assert LevenshteinAutomaton.isWithinEditDistanceNonAutomaton(maxEditDistance, str1, str2) == (expectedEditDistance <= maxEditDistance);
+        }
+        
+        assert LevenshteinAutomaton.computeEditDistance(str1, str2, Integer.MAX_VALUE) == expectedEditDistance;
+    }
+    
+    
+    
+    @Test(dataProvider = "stringPairDataProvider")
+    public void workspaceEditDistanceTest(String str1, String str2)
+    {
+        int expectedEditDistance = LevenshteinAutomaton.computeEditDistance(str1, str2);
+        
+        assert workspace.computeEditDistance(str1, str2) == expectedEditDistance;
+        assert workspace.computeEditDistance(new StringBuilder(str1), CharBuffer.wrap(str2)) == expectedEditDistance;
+        
+        //Surround the chars of each String with padding that must be ignored
+        char[] chars1 = ("xy" + str1 + "z").toCharArray();
+        char[] chars2 = ("z" + str2 + "yx").toCharArray();
+        
+        for(int maxEditDistance = 0; maxEditDistance <= 6; maxEditDistance++)
+        {
+            int boundedEditDistance = workspace.computeEditDistance(chars1, 2, str1.length(), chars2, 1, str2.length(), maxEditDistance);
+            assert boundedEditDistance == Math.min(expectedEditDistance, maxEditDistance + 1);
+        }
+        
+        assert workspace.computeEditDistance(chars1, 2, str1.length(), chars2, 1, str2.length(), Integer.MAX_VALUE) == expectedEditDistance;
+    }
+    
+    
+    
+    @Test(dataProvider = "stringPairDataProvider")
+    public void bitParallelEditDistanceTest(String str1, String str2)
+    {
+        int expectedEditDistance = LevenshteinAutomaton.computeEditDistance(str1, str2);
+        
+        assert LevenshteinAutomaton.computeEditDistanceBitParallel(str1, str2) == expectedEditDistance;
+        assert new BitParallelPattern(str1).computeEditDistance(str2) == expectedEditDistance;
+        assert new BitParallelPattern(str2).computeEditDistance(str1) == expectedEditDistance;
+        
+        for(int maxEditDistance = 0; maxEditDistance <= 4; maxEditDistance++)
+        {
+            int boundedEditDistance = new BitParallelPattern(str1).computeEditDistance(str2, maxEditDistance);
+            assert boundedEditDistance == Math.min(expectedEditDistance, maxEditDistance + 1);
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "stringPairDataProvider")
+    public void signatureLowerBoundTest(String str1, String str2)
+    {
+        int expectedEditDistance = LevenshteinAutomaton.computeEditDistance(str1, str2);
+        
+        assert EditDistanceSignature.computeLowerBound(str1, str2) <= expectedEditDistance;
+        assert EditDistanceSignature.computeLowerBound(str2, str1) <= expectedEditDistance;
+        
+        //Lengthen the Strings so that the counts of some of their histogram buckets saturate
+        String prefix1 = createRandomString(300, 300, "ab");
+        String prefix2 = createRandomString(250, 350, "ab");
+        assert EditDistanceSignature.computeLowerBound(prefix1 + str1, prefix2 + str2) <= LevenshteinAutomaton.computeEditDistance(prefix1 + str1, prefix2 + str2);
+    }
+    
+    
+    
+    @Test
+    public void distanceKernelTest()
+    {
+        String[] alphabetArray = {"abcd", "abc\u00e9\u4e2d"};
+        
+        for(int i = 0; i < 60; i++)
+        {
+            String alphabet = alphabetArray[i % alphabetArray.length];
+            String query = createRandomString(0, (i < 30 ? 12 : 100), alphabet);
+            int maxEditDistance = (int)(Math.random() * 5);
+            
+            String[] candidateArray = new String[300];
+            for(int j = 0; j < candidateArray.length; j++)
+                candidateArray[j] = (j % 2 == 0 ? createRandomVariant(query, (int)(Math.random() * 7), alphabet) : createRandomString(0, query.length() + 3, alphabet));
+            
+            DistanceKernel distanceKernel = new DistanceKernel(query);
+            int[] distanceArray = new int[candidateArray.length];
+            distanceKernel.distances(candidateArray, maxEditDistance, distanceArray);
+            
+            ArrayList<String> expectedResultArrayList = new ArrayList<String>();
+            
+            for(int j = 0; j < candidateArray.length; j++)
+            {
+                int expectedEditDistance = Math.min(LevenshteinAutomaton.computeEditDistance(query, candidateArray[j]), maxEditDistance + 1);
+                assert distanceArray[j] == expectedEditDistance;
+                assert distanceKernel.distance(candidateArray[j], maxEditDistance) == expectedEditDistance;
+                
+                if(expectedEditDistance <= maxEditDistance) expectedResultArrayList.add(candidateArray[j]);
+            }
+            
+            assert expectedResultArrayList.equals(LevenshteinAutomaton.fuzzySearchNonAutomaton(maxEditDistance, query, Arrays.asList(candidateArray)));
+        }
+    }
+}
@@ -0,0 +1,712 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomatonTest;
+
+import com.BoxOfC.LevenshteinAutomaton.BKTreeIndex;
+import com.BoxOfC.LevenshteinAutomaton.DAWGBuildProgressListener;
+import com.BoxOfC.LevenshteinAutomaton.DictionaryCursor;
+import com.BoxOfC.LevenshteinAutomaton.DictionaryReleaseListener;
+import com.BoxOfC.LevenshteinAutomaton.FuzzySearchableDictionary;
+import com.BoxOfC.LevenshteinAutomaton.FuzzySearchableDictionaryHolder;
+import com.BoxOfC.LevenshteinAutomaton.LengthBucketIndex;
+import com.BoxOfC.LevenshteinAutomaton.LevenshteinAutomaton;
+import com.BoxOfC.LevenshteinAutomaton.MDAGDictionary;
+import com.BoxOfC.LevenshteinAutomaton.MappedDAWGDictionary;
+import com.BoxOfC.LevenshteinAutomaton.PackedDAWGBuilder;
+import com.BoxOfC.LevenshteinAutomaton.PackedDAWGDictionary;
+import com.BoxOfC.LevenshteinAutomaton.QGramIndex;
+import com.BoxOfC.LevenshteinAutomaton.SimpleMDAGDictionary;
+import com.BoxOfC.LevenshteinAutomaton.SortedStringArrayDictionary;
+import com.BoxOfC.LevenshteinAutomaton.SymmetricDeleteIndex;
+import com.BoxOfC.LevenshteinAutomaton.TrieDictionary;
+import com.BoxOfC.MDAG.MDAG;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ *
+ * @author Kevin
+ */
+public class FuzzySearchableDictionaryTest 
+{
+    ArrayList<String> wordArrayList = new ArrayList<String>();
+    FuzzySearchableDictionary[] dictionaryArray;
+    LengthBucketIndex lengthBucketIndex;
+    QGramIndex[] qGramIndexArray;
+    SymmetricDeleteIndex symmetricDeleteIndex;
+    BKTreeIndex bkTreeIndex;
+    int maxEditDistanceToTest = 2;
+    ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+    
+    @BeforeClass
+    public void initializer() throws IOException
+    {
+        TreeSet<String> wordTreeSet = new TreeSet<String>();
+        
+        while(wordTreeSet.size() < 5000)
+        {
+            StringBuilder strBuilder = new StringBuilder();
+            int randomLength = (int)(Math.random() * 10) + 1;
+            for(int i = 0; i < randomLength; i++) strBuilder.append((char)('a' + (int)(Math.random() * 6)));
+            
+            wordTreeSet.add(strBuilder.toString());
+        }
+        
+        wordArrayList.addAll(wordTreeSet);
+        
+        MDAG mdag = new MDAG(wordArrayList);
+        MDAG simplifiedMDAG = new MDAG(wordArrayList);
+        simplifiedMDAG.simplify();
+        
+        File dawgFile = File.createTempFile("FuzzySearchableDictionaryTest", ".dawg");
+        dawgFile.deleteOnExit();
+        new PackedDAWGDictionary(wordArrayList).write(dawgFile);
+        
+        dictionaryArray = new FuzzySearchableDictionary[]{new MDAGDictionary(mdag), new SimpleMDAGDictionary(simplifiedMDAG),
+                                                          new SortedStringArrayDictionary(wordArrayList.toArray(new String[0])), new TrieDictionary(wordArrayList),
+                                                          new PackedDAWGDictionary(wordArrayList), new MappedDAWGDictionary(dawgFile)};
+        
+        lengthBucketIndex = new LengthBucketIndex(wordArrayList);
+        qGramIndexArray = new QGramIndex[]{new QGramIndex(wordArrayList, 1), new QGramIndex(wordArrayList, 2), new QGramIndex(wordArrayList, 3)};
+        symmetricDeleteIndex = new SymmetricDeleteIndex(wordArrayList, maxEditDistanceToTest);
+        bkTreeIndex = new BKTreeIndex(wordArrayList);
+    }
+    
+    
+    
+    @DataProvider(name = "dictionaryWordDataProvider")
+    public Object[][] dictionaryWordDataProvider()
+    {
+        int testCount = 100;
+        Object[][] argArrayContainerArray = new Object[testCount][];
+        
+        for(int i = 0; i < testCount; i++)
+        {
+            int randomMaxEditDistance = (int)(Math.random() * maxEditDistanceToTest) + 1;
+            int randomIndex = (int)(Math.random() * wordArrayList.size());
+            argArrayContainerArray[i] = new Object[]{randomMaxEditDistance, wordArrayList.get(randomIndex)};
+        }
+        
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test
+    public void cursorContainsTest()
+    {
+        for(FuzzySearchableDictionary dictionary : dictionaryArray)
+        {
+            for(String word : wordArrayList)
+            {
+                DictionaryCursor currentCursor = dictionary.getSourceCursor();
+                for(int i = 0; i < word.length() && currentCursor != null; i++) currentCursor = currentCursor.transition(word.charAt(i));
+                
+                assert currentCursor != null && currentCursor.isAcceptNode();
+            }
+            
+            assert dictionary.getSourceCursor().transition('z') == null;
+        }
+    }
+    
+    
+    
+    @Test
+    public void cursorTransitionOrderTest()
+    {
+        for(FuzzySearchableDictionary dictionary : dictionaryArray)
+        {
+            DictionaryCursor sourceCursor = dictionary.getSourceCursor();
+            
+            for(int i = 1; i < sourceCursor.getOutgoingTransitionCount(); i++)
+                assert sourceCursor.getOutgoingTransitionLabel(i - 1) < sourceCursor.getOutgoingTransitionLabel(i);
+        }
+    }
+    
+    
+    
+    @Test
+    public void cursorRepositionTest()
+    {
+        for(FuzzySearchableDictionary dictionary : dictionaryArray)
+        {
+            //Enumerate the Strings in dictionary depth-first, repositioning a single cursor per depth
+            ArrayList<String> enumeratedWordArrayList = new ArrayList<String>();
+            DictionaryCursor[] cursorArray = new DictionaryCursor[12];
+            int[] nextTransitionIndexArray = new int[12];
+            char[] prefixCharArray = new char[11];
+            
+            cursorArray[0] = dictionary.getSourceCursor();
+            for(int depth = 0; depth >= 0;)
+            {
+                int transitionIndex = nextTransitionIndexArray[depth]++;
+                
+                if(transitionIndex == cursorArray[depth].getOutgoingTransitionCount()) 
+                    depth--;
+                else
+                {
+                    prefixCharArray[depth] = cursorArray[depth].getOutgoingTransitionLabel(transitionIndex);
+                    
+                    if(cursorArray[depth + 1] == null) cursorArray[depth + 1] = cursorArray[depth].copy();
+                    cursorArray[depth + 1].setToOutgoingTransitionTarget(cursorArray[depth], transitionIndex);
+                    nextTransitionIndexArray[++depth] = 0;
+                    
+                    if(cursorArray[depth].isAcceptNode()) enumeratedWordArrayList.add(new String(prefixCharArray, 0, depth));
+                }
+            }
+            /////
+            
+            assert enumeratedWordArrayList.equals(wordArrayList);
+            
+            //Walk each String with a pair of cursors that are alternately repositioned by char
+            DictionaryCursor[] cursorPairArray = {dictionary.getSourceCursor(), dictionary.getSourceCursor()};
+            for(String word : wordArrayList)
+            {
+                cursorPairArray[0] = dictionary.getSourceCursor();
+                
+                for(int i = 0; i < word.length(); i++)
+                    assert cursorPairArray[(i + 1) % 2].setToTransitionTarget(cursorPairArray[i % 2], word.charAt(i));
+                
+                assert cursorPairArray[word.length() % 2].isAcceptNode();
+            }
+            /////
+            
+            DictionaryCursor sourceCursor = dictionary.getSourceCursor();
+            DictionaryCursor copiedCursor = sourceCursor.copy();
+            assert !copiedCursor.setToTransitionTarget(sourceCursor, 'z');
+            assert copiedCursor.getOutgoingTransitionCount() == sourceCursor.getOutgoingTransitionCount();
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void tableFuzzySearchTest(int maxEditDistance, String str)
+    {
+        HashSet<String> resultHashSet1 = new HashSet<String>();
+        
+        for(String currentWord : wordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                resultHashSet1.add(currentWord); 
+        }
+        
+        for(FuzzySearchableDictionary dictionary : dictionaryArray)
+        {
+            HashSet<String> resultHashSet2 = new HashSet<String>(LevenshteinAutomaton.tableFuzzySearch(maxEditDistance, str, dictionary));
+            assert resultHashSet1.equals(resultHashSet2);
+        }
+    }
+    
+    
+    
+    @DataProvider(name = "sharedPrefixDataProvider")
+    public Object[][] sharedPrefixDataProvider()
+    {
+        int testCount = 40;
+        Object[][] argArrayContainerArray = new Object[testCount][];
+        
+        for(int i = 0; i < testCount; i++)
+        {
+            //Create a long query String, along with words that share prefixes of every length with it and then leave the diagonal
+            //(by diverging, ending, or continuing past its end), as well as words with edits at various points along it
+            StringBuilder queryBuilder = new StringBuilder();
+            int queryLength = 20 + (int)(Math.random() * 20);
+            for(int j = 0; j < queryLength; j++) queryBuilder.append((char)('a' + (int)(Math.random() * 3)));
+            String queryStr = queryBuilder.toString();
+            
+            TreeSet<String> wordTreeSet = new TreeSet<String>();
+            wordTreeSet.add(queryStr);
+            
+            for(int prefixLength = 1; prefixLength <= queryLength; prefixLength++)
+            {
+                String prefix = queryStr.substring(0, prefixLength);
+                wordTreeSet.add(prefix);
+                wordTreeSet.add(prefix + (char)('a' + (int)(Math.random() * 4)));
+                wordTreeSet.add(prefix + (char)('a' + (int)(Math.random() * 4)) + queryStr.substring(prefixLength));
+                
+                if(prefixLength < queryLength)
+                {
+                    wordTreeSet.add(prefix + queryStr.substring(prefixLength + 1));
+                    wordTreeSet.add(prefix + 'd' + queryStr.substring(prefixLength + 1));
+                    
+                    if(prefixLength + 1 < queryLength)
+                        wordTreeSet.add(queryStr.substring(0, prefixLength - 1) + queryStr.charAt(prefixLength) + queryStr.charAt(prefixLength - 1) + queryStr.substring(prefixLength + 1));
+                }
+            }
+            /////
+            
+            argArrayContainerArray[i] = new Object[]{(i % maxEditDistanceToTest) + 1, queryStr, new ArrayList<String>(wordTreeSet)};
+        }
+        
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test(dataProvider = "sharedPrefixDataProvider")
+    public void tableFuzzySearchSharedPrefixTest(int maxEditDistance, String str, ArrayList<String> sortedWordArrayList)
+    {
+        HashSet<String> expectedResultHashSet = new HashSet<String>();
+        
+        for(String currentWord : sortedWordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                expectedResultHashSet.add(currentWord); 
+        }
+        
+        FuzzySearchableDictionary[] sharedPrefixDictionaryArray = {new MDAGDictionary(new MDAG(sortedWordArrayList)), new TrieDictionary(sortedWordArrayList),
+                                                                   new SortedStringArrayDictionary(sortedWordArrayList.toArray(new String[0])), 
+                                                                   new PackedDAWGDictionary(sortedWordArrayList)};
+        
+        for(FuzzySearchableDictionary dictionary : sharedPrefixDictionaryArray)
+        {
+            LinkedList<String> resultLinkedList = LevenshteinAutomaton.tableFuzzySearch(maxEditDistance, str, dictionary);
+            
+            assert resultLinkedList.size() == expectedResultHashSet.size();
+            assert expectedResultHashSet.equals(new HashSet<String>(resultLinkedList));
+            assert LevenshteinAutomaton.countMatches(maxEditDistance, str, dictionary) == expectedResultHashSet.size();
+        }
+    }
+    
+    
+    
+    @DataProvider(name = "emptyStringDataProvider")
+    public Object[][] emptyStringDataProvider()
+    {
+        String[] queryStringArray = {"", "b", "c", "bc", "bcd", "dcba"};
+        Object[][] argArrayContainerArray = new Object[queryStringArray.length * 3][];
+    
+        for(int i = 0; i < argArrayContainerArray.length; i++)
+            argArrayContainerArray[i] = new Object[]{i % 3, queryStringArray[i / 3]};
+    
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test(dataProvider = "emptyStringDataProvider")
+    public void emptyStringDictionaryFuzzySearchTest(int maxEditDistance, String str)
+    {
+        //MDAG cannot hold the empty String, so only the dictionaries which can are tested
+        ArrayList<String> sortedWordArrayList = new ArrayList<String>(Arrays.asList("", "b", "bc", "cb"));
+    
+        HashSet<String> expectedResultHashSet = new HashSet<String>();
+    
+        for(String currentWord : sortedWordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                expectedResultHashSet.add(currentWord);
+        }
+    
+        FuzzySearchableDictionary[] emptyStringDictionaryArray = {new TrieDictionary(sortedWordArrayList),
+                                                                  new SortedStringArrayDictionary(sortedWordArrayList.toArray(new String[0])),
+                                                                  new PackedDAWGDictionary(sortedWordArrayList)};
+    
+        for(FuzzySearchableDictionary dictionary : emptyStringDictionaryArray)
+        {
+            LinkedList<String> tableResultLinkedList = LevenshteinAutomaton.tableFuzzySearch(maxEditDistance, str, dictionary);
+            LinkedList<String> iterativeResultLinkedList = LevenshteinAutomaton.iterativeFuzzySearch(maxEditDistance, str, dictionary);
+            LinkedList<String> dynamicProgrammingResultLinkedList = LevenshteinAutomaton.dynamicProgrammingFuzzySearch(maxEditDistance, str, dictionary);
+    
+            assert tableResultLinkedList.size() == expectedResultHashSet.size();
+            assert expectedResultHashSet.equals(new HashSet<String>(tableResultLinkedList));
+            assert iterativeResultLinkedList.size() == expectedResultHashSet.size();
+            assert expectedResultHashSet.equals(new HashSet<String>(iterativeResultLinkedList));
+            assert expectedResultHashSet.equals(new HashSet<String>(dynamicProgrammingResultLinkedList));
+            assert LevenshteinAutomaton.countMatches(maxEditDistance, str, dictionary) == expectedResultHashSet.size();
+            assert LevenshteinAutomaton.anyMatch(maxEditDistance, str, dictionary) == !expectedResultHashSet.isEmpty();
+        }
+    }
+    
+    
+    
+    @Test
+    public void packedDAWGTest()
+    {
+        PackedDAWGDictionary packedDAWGDictionary = new PackedDAWGDictionary(wordArrayList);
+        assert packedDAWGDictionary.getStringCount() == wordArrayList.size();
+        
+        //Strings that differ from a word in their last char, or extend it, must be rejected unless they are words themselves
+        HashSet<String> wordHashSet = new HashSet<String>(wordArrayList);
+        for(String word : wordArrayList)
+        {
+            assert packedDAWGDictionary.contains(word);
+            
+            String extendedWord = word + "a";
+            String changedWord = word.substring(0, word.length() - 1) + "g";
+            assert packedDAWGDictionary.contains(extendedWord) == wordHashSet.contains(extendedWord);
+            assert packedDAWGDictionary.contains(changedWord) == wordHashSet.contains(changedWord);
+        }
+        
+        assert !packedDAWGDictionary.contains("");
+        /////
+        
+        //The builder must ignore duplicates, accept the empty String, and reject Strings added out of order
+        PackedDAWGBuilder builder = new PackedDAWGBuilder();
+        assert builder.add("") && builder.add("ab") && !builder.add("ab") && builder.add("abc") && builder.add("b");
+        
+        boolean isOrderViolationRejected = false;
+        try { builder.add("abd"); }
+        catch(IllegalArgumentException e) { isOrderViolationRejected = true; }
+        assert isOrderViolationRejected;
+        
+        PackedDAWGDictionary smallDictionary = builder.build();
+        assert smallDictionary.getStringCount() == 4 && smallDictionary.contains("") && smallDictionary.contains("abc") && !smallDictionary.contains("a");
+        /////
+    }
+    
+    
+    
+    @Test
+    public void mappedDAWGTest() throws IOException
+    {
+        PackedDAWGDictionary packedDAWGDictionary = new PackedDAWGDictionary(wordArrayList);
+        File dawgFile = File.createTempFile("mappedDAWGTest", ".dawg");
+        dawgFile.deleteOnExit();
+        packedDAWGDictionary.write(dawgFile);
+        
+        MappedDAWGDictionary mappedDAWGDictionary = new MappedDAWGDictionary(dawgFile);
+        assert mappedDAWGDictionary.getStringCount() == packedDAWGDictionary.getStringCount();
+        assert mappedDAWGDictionary.getNodeCount() == packedDAWGDictionary.getNodeCount();
+        assert mappedDAWGDictionary.getTransitionCount() == packedDAWGDictionary.getTransitionCount();
+        
+        for(String word : wordArrayList)
+        {
+            assert mappedDAWGDictionary.contains(word);
+            assert mappedDAWGDictionary.contains(word + "a") == packedDAWGDictionary.contains(word + "a");
+        }
+        
+        //Files that are not dictionaries must be rejected
+        File textFile = File.createTempFile("mappedDAWGTest", ".txt");
+        textFile.deleteOnExit();
+        
+        FileWriter fileWriter = new FileWriter(textFile);
+        fileWriter.write("this is not a dictionary, but it is long enough to contain a header");
+        fileWriter.close();
+        
+        boolean isInvalidFileRejected = false;
+        try { new MappedDAWGDictionary(textFile); }
+        catch(IOException e) { isInvalidFileRejected = true; }
+        assert isInvalidFileRejected;
+        /////
+        
+        //Dictionary files whose transitions are out of order or lead outside of the graph must be rejected
+        int nodeCount = mappedDAWGDictionary.getNodeCount();
+        long nodeSectionPosition = 32 + 8L * ((nodeCount + 63) / 64);
+        long targetSectionPosition = nodeSectionPosition + 4L * (nodeCount + 1);
+        
+        assert isCorruptionRejected(packedDAWGDictionary, nodeSectionPosition + 4, Integer.MAX_VALUE);
+        assert isCorruptionRejected(packedDAWGDictionary, nodeSectionPosition + 4L * nodeCount, 0);
+        assert isCorruptionRejected(packedDAWGDictionary, targetSectionPosition, nodeCount);
+        assert isCorruptionRejected(packedDAWGDictionary, targetSectionPosition, -1);
+        /////
+    }
+    
+    
+    
+    /**
+     * Determines whether a MappedDAWGDictionary cannot be created from a corrupted dictionary file.
+     
+     * @param packedDAWGDictionary      the PackedDAWGDictionary to write to the file
+     * @param position                  a long of the position of the int in the file to overwrite
+     * @param value                     an int of the value to overwrite the int at {@code position} with
+     * @return                          true if the MappedDAWGDictionary constructor throws an IOException for the file, false otherwise
+     */
+    private static boolean isCorruptionRejected(PackedDAWGDictionary packedDAWGDictionary, long position, int value) throws IOException
+    {
+        File dawgFile = File.createTempFile("mappedDAWGTest", ".dawg");
+        dawgFile.deleteOnExit();
+        packedDAWGDictionary.write(dawgFile);
+        
+        RandomAccessFile randomAccessFile = new RandomAccessFile(dawgFile, "rw");
+        randomAccessFile.seek(position);
+        randomAccessFile.writeInt(value);
+        randomAccessFile.close();
+        
+        try { new MappedDAWGDictionary(dawgFile); }
+        catch(IOException e) { return true; }
+        
+        return false;
+    }
+    
+    
+    
+    @Test
+    public void streamingDAWGBuilderTest() throws IOException
+    {
+        //Write the words to a gzipped line file
+        File wordFile = File.createTempFile("streamingDAWGBuilderTest", ".txt.gz");
+        wordFile.deleteOnExit();
+        
+        Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(wordFile)), "UTF-8");
+        for(String word : wordArrayList) writer.write(word + "\n");
+        writer.close();
+        /////
+        
+        //Build dictionaries from the file and from an Iterator over the words, recording the progress reported for the former
+        final ArrayList<Long> progressArrayList = new ArrayList<Long>();
+        PackedDAWGBuilder fileBuilder = new PackedDAWGBuilder(new DAWGBuildProgressListener()
+        {
+            @Override
+            public void progressMade(long stringCount, int nodeCount, int transitionCount, boolean isFinished)
+            {
+                progressArrayList.add(isFinished ? -stringCount : stringCount);
+            }
+        }, 1000);
+        
+        assert fileBuilder.addAll(wordFile, Charset.forName("UTF-8")) == wordArrayList.size();
+        
+        File dawgFile = File.createTempFile("streamingDAWGBuilderTest", ".dawg");
+        dawgFile.deleteOnExit();
+        fileBuilder.write(dawgFile);
+        
+        PackedDAWGBuilder iteratorBuilder = new PackedDAWGBuilder();
+        assert iteratorBuilder.addAll(wordArrayList.iterator()) == wordArrayList.size();
+        PackedDAWGDictionary packedDAWGDictionary = iteratorBuilder.build();
+        /////
+        
+        assert progressArrayList.equals(Arrays.asList(1000L, 2000L, 3000L, 4000L, 5000L, -5000L));
+        
+        MappedDAWGDictionary mappedDAWGDictionary = new MappedDAWGDictionary(dawgFile);
+        assert mappedDAWGDictionary.getNodeCount() == packedDAWGDictionary.getNodeCount();
+        assert mappedDAWGDictionary.getTransitionCount() == packedDAWGDictionary.getTransitionCount();
+        for(String word : wordArrayList) assert mappedDAWGDictionary.contains(word);
+    }
+    
+    
+    
+    @Test
+    public void dictionaryHolderTest() throws InterruptedException
+    {
+        final String searchStr = wordArrayList.get(wordArrayList.size() / 2);
+        final PackedDAWGDictionary fullDictionary = new PackedDAWGDictionary(wordArrayList);
+        final PackedDAWGDictionary halfDictionary = new PackedDAWGDictionary(wordArrayList.subList(0, wordArrayList.size() / 2));
+        final LinkedList<String> fullResultLinkedList = LevenshteinAutomaton.tableFuzzySearch(2, searchStr, fullDictionary);
+        final LinkedList<String> halfResultLinkedList = LevenshteinAutomaton.tableFuzzySearch(2, searchStr, halfDictionary);
+        
+        final ConcurrentLinkedQueue<FuzzySearchableDictionary> releasedDictionaryQueue = new ConcurrentLinkedQueue<FuzzySearchableDictionary>();
+        DictionaryReleaseListener releaseListener = new DictionaryReleaseListener()
+        {
+            @Override
+            public void dictionaryReleased(FuzzySearchableDictionary dictionary)
+            {
+                releasedDictionaryQueue.add(dictionary);
+            }
+        };
+        
+        //A replaced snapshot must remain searchable, and only be released, once its last reader releases it
+        FuzzySearchableDictionaryHolder holder = new FuzzySearchableDictionaryHolder(fullDictionary, releaseListener);
+        FuzzySearchableDictionaryHolder.Snapshot snapshot = holder.acquire();
+        holder.publish(halfDictionary);
+        
+        assert releasedDictionaryQueue.isEmpty();
+        assert LevenshteinAutomaton.tableFuzzySearch(2, searchStr, snapshot.getDictionary()).equals(fullResultLinkedList);
+        assert holder.tableFuzzySearch(2, searchStr).equals(halfResultLinkedList);
+        
+        snapshot.release();
+        assert releasedDictionaryQueue.size() == 1 && releasedDictionaryQueue.peek() == fullDictionary;
+        releasedDictionaryQueue.clear();
+        /////
+        
+        //Searches carried out while dictionaries are being published must each see one complete dictionary
+        final FuzzySearchableDictionaryHolder concurrentHolder = new FuzzySearchableDictionaryHolder(fullDictionary, releaseListener);
+        final AtomicInteger mismatchCount = new AtomicInteger();
+        Thread[] searchThreadArray = new Thread[4];
+        
+        for(int i = 0; i < searchThreadArray.length; i++)
+        {
+            searchThreadArray[i] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for(int j = 0; j < 200; j++)
+                    {
+                        LinkedList<String> resultLinkedList = concurrentHolder.tableFuzzySearch(2, searchStr);
+                        if(!resultLinkedList.equals(fullResultLinkedList) && !resultLinkedList.equals(halfResultLinkedList)) mismatchCount.incrementAndGet();
+                    }
+                }
+            };
+            searchThreadArray[i].start();
+        }
+        
+        for(int i = 0; i < 100; i++) concurrentHolder.publish(i % 2 == 0 ? halfDictionary : fullDictionary);
+        for(Thread searchThread : searchThreadArray) searchThread.join();
+        
+        assert mismatchCount.get() == 0;
+        assert releasedDictionaryQueue.size() == 100;
+        /////
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void dynamicProgrammingFuzzySearchTest(int maxEditDistance, String str)
+    {
+        //Test edit distances beyond those supported by the automaton based searches
+        maxEditDistance += 2;
+        
+        HashSet<String> resultHashSet1 = new HashSet<String>();
+        
+        for(String currentWord : wordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                resultHashSet1.add(currentWord); 
+        }
+        
+        for(FuzzySearchableDictionary dictionary : dictionaryArray)
+        {
+            HashSet<String> resultHashSet2 = new HashSet<String>(LevenshteinAutomaton.dynamicProgrammingFuzzySearch(maxEditDistance, str, dictionary));
+            assert resultHashSet1.equals(resultHashSet2);
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void nonAutomatonFuzzySearchTest(int maxEditDistance, String str)
+    {
+        maxEditDistance += 2;
+        
+        ArrayList<String> expectedResultArrayList = new ArrayList<String>();
+        
+        for(String currentWord : wordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                expectedResultArrayList.add(currentWord); 
+        }
+        
+        ArrayList<String> shuffledWordArrayList = new ArrayList<String>(wordArrayList);
+        Collections.shuffle(shuffledWordArrayList);
+        
+        assert expectedResultArrayList.equals(LevenshteinAutomaton.fuzzySearchNonAutomaton(maxEditDistance, str, wordArrayList));
+        assert expectedResultArrayList.equals(LevenshteinAutomaton.incrementalFuzzySearchNonAutomaton(maxEditDistance, str, wordArrayList.toArray(new String[0])));
+        assert expectedResultArrayList.equals(LevenshteinAutomaton.incrementalFuzzySearchNonAutomaton(maxEditDistance, str, shuffledWordArrayList));
+        assert expectedResultArrayList.equals(LevenshteinAutomaton.parallelFuzzySearchNonAutomaton(maxEditDistance, str, wordArrayList));
+        assert expectedResultArrayList.equals(LevenshteinAutomaton.parallelFuzzySearchNonAutomaton(maxEditDistance, str, new LinkedList<String>(wordArrayList)));
+        assert expectedResultArrayList.equals(LevenshteinAutomaton.parallelFuzzySearchNonAutomaton(maxEditDistance, str, wordArrayList.toArray(new String[0]), forkJoinPool));
+        assert new HashSet<String>(expectedResultArrayList).equals(new HashSet<String>(lengthBucketIndex.fuzzySearch(maxEditDistance, str)));
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void qGramIndexTest(int maxEditDistance, String str)
+    {
+        for(int currentMaxEditDistance = maxEditDistance - 1; currentMaxEditDistance <= maxEditDistance + 1; currentMaxEditDistance++)
+        {
+            ArrayList<String> expectedResultArrayList = new ArrayList<String>();
+
+            for(String currentWord : wordArrayList)
+            {
+                if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= currentMaxEditDistance)
+                    expectedResultArrayList.add(currentWord); 
+            }
+            
+            for(QGramIndex qGramIndex : qGramIndexArray)
+                assert expectedResultArrayList.equals(qGramIndex.fuzzySearch(currentMaxEditDistance, str));
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void symmetricDeleteIndexTest(int maxEditDistance, String str)
+    {
+        for(int currentMaxEditDistance = 0; currentMaxEditDistance <= symmetricDeleteIndex.getMaxEditDistance(); currentMaxEditDistance++)
+        {
+            ArrayList<String> expectedResultArrayList = new ArrayList<String>();
+
+            for(String currentWord : wordArrayList)
+            {
+                if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= currentMaxEditDistance)
+                    expectedResultArrayList.add(currentWord); 
+            }
+            
+            assert expectedResultArrayList.equals(symmetricDeleteIndex.fuzzySearch(currentMaxEditDistance, str));
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void bkTreeIndexTest(int maxEditDistance, String str)
+    {
+        for(int currentMaxEditDistance = maxEditDistance - 1; currentMaxEditDistance <= maxEditDistance + 2; currentMaxEditDistance++)
+        {
+            ArrayList<String> expectedResultArrayList = new ArrayList<String>();
+
+            for(String currentWord : wordArrayList)
+            {
+                if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= currentMaxEditDistance)
+                    expectedResultArrayList.add(currentWord); 
+            }
+            
+            assert expectedResultArrayList.equals(bkTreeIndex.fuzzySearch(currentMaxEditDistance, str));
+        }
+    }
+    
+    
+    
+    @Test(dataProvider = "dictionaryWordDataProvider")
+    public void matchCountTest(int maxEditDistance, String str)
+    {
+        int matchCount = 0;
+        
+        for(String currentWord : wordArrayList)
+        {
+            if(LevenshteinAutomaton.computeEditDistance(str, currentWord) <= maxEditDistance)
+                matchCount++;
+        }
+        
+        for(FuzzySearchableDictionary dictionary : dictionaryArray)
+        {
+            assert LevenshteinAutomaton.countMatches(maxEditDistance, str, dictionary) == matchCount;
+            assert LevenshteinAutomaton.anyMatch(maxEditDistance, str, dictionary) == (matchCount > 0);
+        }
+    }
+}
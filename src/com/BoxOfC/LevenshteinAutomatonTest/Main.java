@@ -38,7 +38,7 @@ public class Main
      */
     public static void main(String[] args) {
         TestNG test = new TestNG();
-        test.setTestClasses(new Class[]{/*PositionTest.class, StateTest.class, ParametricStateTest.class,*/ LevenshteinAutomatonTest.class});
+        test.setTestClasses(new Class[]{/*PositionTest.class, StateTest.class, ParametricStateTest.class,*/ LevenshteinAutomatonTest.class, FuzzySearchableDictionaryTest.class, CompiledLevenshteinAutomatonTest.class, ApproximateSubstringScannerTest.class, EditDistanceTest.class, SimilarityJoinTest.class});
         test.run();
        
     }
@@ -0,0 +1,209 @@
+/**
+ * LevenshteinAutomaton is a fast and comprehensive Java library capable
+ * of performing automaton and non-automaton based Levenshtein distance
+ * determination and neighbor calculations.
+ * 
+ *  Copyright (C) 2012 Kevin Lawson <Klawson88@gmail.com>
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.BoxOfC.LevenshteinAutomatonTest;
+
+import com.BoxOfC.LevenshteinAutomaton.DictionaryJoinListener;
+import com.BoxOfC.LevenshteinAutomaton.LevenshteinAutomaton;
+import com.BoxOfC.LevenshteinAutomaton.SimilarityJoin;
+import com.BoxOfC.LevenshteinAutomaton.SimilarityJoinListener;
+import com.BoxOfC.LevenshteinAutomaton.TrieDictionary;
+import com.BoxOfC.MDAG.MDAG;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ *
+ * @author Kevin
+ */
+public class SimilarityJoinTest 
+{
+    int maxEditDistanceToTest = 3;
+    
+    
+    
+    private static String createRandomString(int minLength, int maxLength, String alphabet)
+    {
+        StringBuilder strBuilder = new StringBuilder();
+        int randomLength = minLength + (int)(Math.random() * (maxLength - minLength + 1));
+        for(int i = 0; i < randomLength; i++) strBuilder.append(alphabet.charAt((int)(Math.random() * alphabet.length())));
+        
+        return strBuilder.toString();
+    }
+    
+    
+    
+    private static String[] createRandomStringArray(int strCount, int minLength, int maxLength, String alphabet)
+    {
+        String[] strArray = new String[strCount];
+        for(int i = 0; i < strCount; i++) strArray[i] = createRandomString(minLength, maxLength, alphabet);
+        
+        return strArray;
+    }
+    
+    
+    
+    private static class RecordingListener implements SimilarityJoinListener
+    {
+        Set<String> pairSet = Collections.synchronizedSet(new HashSet<String>());
+        
+        @Override
+        public void pairFound(int index1, int index2, int editDistance)
+        {
+            boolean isNewPair = pairSet.add(index1 + "," + index2 + "," + editDistance);
+            assert isNewPair;
+        }
+    }
+    
+    
+    
+    @DataProvider(name = "joinDataProvider")
+    public Object[][] joinDataProvider()
+    {
+        int testCount = 20;
+        Object[][] argArrayContainerArray = new Object[testCount][];
+        
+        for(int i = 0; i < testCount; i++)
+        {
+            int randomMaxEditDistance = (int)(Math.random() * (maxEditDistanceToTest + 1));
+            argArrayContainerArray[i] = new Object[]{randomMaxEditDistance, createRandomStringArray(700, 0, 7, "abcd")};
+        }
+        
+        return argArrayContainerArray;
+    }
+    
+    
+    
+    @Test(dataProvider = "joinDataProvider")
+    public void selfJoinTest(int maxEditDistance, String[] strArray)
+    {
+        Set<String> expectedPairSet = new HashSet<String>();
+        
+        for(int i = 0; i < strArray.length; i++)
+        {
+            for(int j = i + 1; j < strArray.length; j++)
+            {
+                int editDistance = LevenshteinAutomaton.computeEditDistance(strArray[i], strArray[j]);
+                if(editDistance <= maxEditDistance) expectedPairSet.add(i + "," + j + "," + editDistance);
+            }
+        }
+        
+        RecordingListener commonPoolListener = new RecordingListener();
+        SimilarityJoin.selfJoin(strArray, maxEditDistance, commonPoolListener);
+        assert expectedPairSet.equals(commonPoolListener.pairSet);
+        
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        RecordingListener customPoolListener = new RecordingListener();
+        SimilarityJoin.selfJoin(strArray, maxEditDistance, customPoolListener, forkJoinPool);
+        forkJoinPool.shutdown();
+        assert expectedPairSet.equals(customPoolListener.pairSet);
+    }
+    
+    
+    
+    @Test(dataProvider = "joinDataProvider")
+    public void partitionJoinTest(int maxEditDistance, String[] strArray)
+    {
+        String[] strArray2 = createRandomStringArray(strArray.length / 2, 0, 12, "abcd");
+        
+        Set<String> expectedPairSet = new HashSet<String>();
+        
+        for(int i = 0; i < strArray.length; i++)
+        {
+            for(int j = 0; j < strArray2.length; j++)
+            {
+                int editDistance = LevenshteinAutomaton.computeEditDistance(strArray[i], strArray2[j]);
+                if(editDistance <= maxEditDistance) expectedPairSet.add(i + "," + j + "," + editDistance);
+            }
+        }
+        
+        RecordingListener listener = new RecordingListener();
+        SimilarityJoin.partitionJoin(strArray, strArray2, maxEditDistance, listener);
+        assert expectedPairSet.equals(listener.pairSet);
+        
+        //Swap the arrays, causing the other one to be indexed
+        RecordingListener swappedListener = new RecordingListener();
+        SimilarityJoin.partitionJoin(strArray2, strArray, maxEditDistance, swappedListener);
+        
+        Set<String> swappedPairSet = new HashSet<String>();
+        for(String pair : swappedListener.pairSet)
+        {
+            String[] pairComponentArray = pair.split(",");
+            swappedPairSet.add(pairComponentArray[1] + "," + pairComponentArray[0] + "," + pairComponentArray[2]);
+        }
+        
+        assert expectedPairSet.equals(swappedPairSet);
+    }
+    
+    
+    
+    @Test(dataProvider = "joinDataProvider")
+    public void dictionaryJoinTest(int maxEditDistance, String[] strArray)
+    {
+        TreeSet<String> strTreeSet1 = new TreeSet<String>(Arrays.asList(strArray));
+        TreeSet<String> strTreeSet2 = new TreeSet<String>(Arrays.asList(createRandomStringArray(strArray.length / 2, 1, 9, "abcd")));
+        
+        //MDAGs cannot contain the empty String
+        strTreeSet1.remove("");
+        
+        Set<String> expectedPairSet = new HashSet<String>();
+        
+        for(String str1 : strTreeSet1)
+        {
+            for(String str2 : strTreeSet2)
+            {
+                int editDistance = LevenshteinAutomaton.computeEditDistance(str1, str2);
+                if(editDistance <= maxEditDistance) expectedPairSet.add(str1 + "," + str2 + "," + editDistance);
+            }
+        }
+        
+        final Set<String> pairSet = new HashSet<String>();
+        DictionaryJoinListener listener = new DictionaryJoinListener()
+        {
+            @Override
+            public void pairFound(String str1, String str2, int editDistance)
+            {
+                boolean isNewPair = pairSet.add(str1 + "," + str2 + "," + editDistance);
+                assert isNewPair;
+            }
+        };
+        
+        MDAG simplifiedMDAG2 = new MDAG(strTreeSet2);
+        simplifiedMDAG2.simplify();
+        SimilarityJoin.dictionaryJoin(new MDAG(strTreeSet1), simplifiedMDAG2, maxEditDistance, listener);
+        assert expectedPairSet.equals(pairSet);
+        
+        pairSet.clear();
+        SimilarityJoin.dictionaryJoin(new TrieDictionary(strTreeSet1), new TrieDictionary(strTreeSet2), maxEditDistance, listener);
+        assert expectedPairSet.equals(pairSet);
+    }
+}